@@ -18,6 +18,7 @@ plugins {
     id("java")
     alias(libs.plugins.fabricLoom)
     alias(libs.plugins.spotless)
+    alias(libs.plugins.jmh)
 }
 
 version = project.extra["mod_version"] as String
@@ -37,12 +38,34 @@ dependencies {
 
     setOf(
         "fabric-api-base",
-        "fabric-command-api-v2"
+        "fabric-command-api-v2",
+        "fabric-lifecycle-events-v1",
+        "fabric-networking-api-v1"
     ).forEach {
         // Add each module as a dependency
         implementation(fabricApi.module(it, libs.versions.fabricApi.get()))
     }
 
+    testImplementation(platform(libs.junitBom))
+    testImplementation(libs.junitJupiter)
+    testRuntimeOnly(libs.junitPlatformLauncher)
+}
+
+sourceSets {
+    named("jmh") {
+        // the benchmarks need the mapped Minecraft classes of the main source set
+        compileClasspath += sourceSets.main.get().compileClasspath
+        runtimeClasspath += sourceSets.main.get().runtimeClasspath
+    }
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    // reports the allocation rate per operation next to the timings
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    // allows running single benchmarks, e.g. -PjmhIncludes=RadarListJsonHeapBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
 }
 
 java {
@@ -76,6 +99,10 @@ tasks {
         }
     }
 
+    test {
+        useJUnitPlatform()
+    }
+
     withType<JavaCompile> {
         options.encoding = Charsets.UTF_8.name()
         options.release.set(25)
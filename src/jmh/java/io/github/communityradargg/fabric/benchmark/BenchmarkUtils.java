@@ -0,0 +1,180 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import io.github.communityradargg.fabric.radarlistmanager.RadarList;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListEntry;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListManager;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListVisibility;
+import net.minecraft.SharedConstants;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.server.Bootstrap;
+import org.jetbrains.annotations.NotNull;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * A class with helpers shared by the benchmarks.
+ */
+public class BenchmarkUtils {
+    private static boolean bootstrapped;
+
+    /**
+     * Bootstraps the Minecraft registries once, which is needed before creating components and other game objects.
+     */
+    public static synchronized void bootstrap() {
+        if (bootstrapped) {
+            return;
+        }
+
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        bootstrapped = true;
+    }
+
+    /**
+     * Creates a private list with random entries.
+     *
+     * @param namespace The namespace of the list.
+     * @param url The url of the list.
+     * @param size The amount of entries.
+     * @param random The random to create the uuids with.
+     * @return Returns the created list.
+     */
+    public static @NotNull RadarList createList(final @NotNull String namespace, final @NotNull String url, final int size, final @NotNull Random random) {
+        final LocalDateTime now = LocalDateTime.now().withNano(0);
+        final List<RadarListEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            entries.add(new RadarListEntry(uuid, "Player" + i, "Benchmark cause " + (i % 100), now));
+        }
+
+        // the player maps of lists are immutable snapshots, so the list is built from json like a loaded list
+        final Gson gson = RadarListManager.getGson();
+        final JsonObject json = new JsonObject();
+        json.addProperty("VERSION", 1);
+        json.addProperty("namespace", namespace);
+        json.add("playerMap", gson.toJsonTree(entries));
+        json.add("visibility", gson.toJsonTree(RadarListVisibility.PRIVATE));
+        json.addProperty("prefix", "&7[&c" + namespace + "&7]");
+        final RadarList list = gson.fromJson(json, RadarList.class);
+        list.setUrl(url);
+        return list;
+    }
+
+    /**
+     * Reads a public list like the mod did before the streaming reader, by binding the whole json array to a list through reflection first.
+     * This is the baseline for the {@link io.github.communityradargg.fabric.radarlistmanager.RadarListEntryStreamReader}.
+     *
+     * @param reader The reader of the json array.
+     * @return Returns the read entries.
+     */
+    public static @NotNull Map<UUID, RadarListEntry> readPublicListWithGson(final @NotNull Reader reader) {
+        final List<RadarListEntry> players = RadarListManager.getGson().fromJson(reader, new TypeToken<List<RadarListEntry>>() {}.getType());
+        final Map<UUID, RadarListEntry> playerMap = HashMap.newHashMap(players.size());
+        players.forEach(entry -> playerMap.put(entry.uuid(), entry));
+        return playerMap;
+    }
+
+    /**
+     * Writes a list as json file like the mod stores private lists.
+     *
+     * @param list The list to write.
+     * @param path The path of the file.
+     * @throws IOException Thrown, when the file could not be written.
+     */
+    public static void writeList(final @NotNull RadarList list, final @NotNull Path path) throws IOException {
+        try (final Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            RadarListManager.getGson().toJson(list, writer);
+        }
+    }
+
+    /**
+     * Deletes a directory with all its contents.
+     *
+     * @param directory The directory to delete.
+     * @throws IOException Thrown, when the directory could not be deleted.
+     */
+    public static void deleteDirectory(final @NotNull Path directory) throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Reads the chat corpus and converts every line into a component with separate text segments for rank, name and message, like the server
+     * sends them with different styles.
+     *
+     * @return Returns the chat messages of the corpus.
+     * @throws IOException Thrown, when the corpus could not be read.
+     */
+    public static @NotNull Component[] readChatCorpus() throws IOException {
+        try (final InputStream inputStream = BenchmarkUtils.class.getResourceAsStream("/chat-corpus.txt")) {
+            if (inputStream == null) {
+                throw new IOException("The chat corpus is missing");
+            }
+
+            final List<String> lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)).lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .toList();
+            return lines.stream()
+                    .map(BenchmarkUtils::toChatComponent)
+                    .toArray(Component[]::new);
+        }
+    }
+
+    /**
+     * Converts a chat line into a component split at the chat separators.
+     *
+     * @param line The chat line.
+     * @return Returns the component.
+     */
+    private static @NotNull Component toChatComponent(final @NotNull String line) {
+        final MutableComponent component = Component.empty();
+        int segmentStart = 0;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (c == '┃' || c == '»') {
+                component.append(Component.literal(line.substring(segmentStart, i)));
+                component.append(Component.literal(String.valueOf(c)));
+                segmentStart = i + 1;
+            }
+        }
+        return component.append(Component.literal(line.substring(segmentStart)));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.benchmark;
+
+import io.github.communityradargg.fabric.utils.ChatSenderExtractor;
+import net.minecraft.network.chat.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks the extraction of the sender from chat messages. Every operation handles one line of the chat corpus, so the scores are lines per
+ * second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatSenderExtractionBenchmark {
+    /** The pattern used before the sender extractor, kept as baseline. */
+    private static final Pattern CHAT_PLAYER_NAME = Pattern.compile("[A-Za-z\\-+]+\\s\\u2503\\s(~?!?\\w{1,16})");
+    private Component[] messages;
+    private int nextMessage;
+
+    /**
+     * Loads the chat corpus.
+     *
+     * @throws IOException Thrown, when the corpus could not be read.
+     */
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkUtils.bootstrap();
+        messages = BenchmarkUtils.readChatCorpus();
+    }
+
+    /**
+     * Extracts the sender by flattening the component and matching the pattern, like it was done before.
+     *
+     * @return Returns the extracted sender.
+     */
+    @Benchmark
+    public Optional<String> regexOnFlattenedString() {
+        final Matcher playerNameMatcher = CHAT_PLAYER_NAME.matcher(nextMessage().getString());
+        if (!playerNameMatcher.find()) {
+            return Optional.empty();
+        }
+
+        final String playerName = playerNameMatcher.group(1);
+        return playerName.startsWith("~") ? Optional.empty() : Optional.of(playerName);
+    }
+
+    /**
+     * Extracts the sender with the {@link ChatSenderExtractor}.
+     *
+     * @return Returns the extracted sender.
+     */
+    @Benchmark
+    public Optional<String> senderExtractor() {
+        return ChatSenderExtractor.extract(nextMessage());
+    }
+
+    /**
+     * Gets the next message of the corpus.
+     *
+     * @return Returns the next message.
+     */
+    private Component nextMessage() {
+        final Component message = messages[nextMessage];
+        nextMessage = nextMessage + 1 == messages.length ? 0 : nextMessage + 1;
+        return message;
+    }
+}
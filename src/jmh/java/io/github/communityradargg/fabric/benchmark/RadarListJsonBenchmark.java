@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.benchmark;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.communityradargg.fabric.radarlistmanager.RadarList;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListEntry;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListEntryStreamReader;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading and saving lists as json through the {@link com.google.gson.Gson} instance of the {@link RadarListManager}.
+ * <br><br>
+ * Private lists are read and written as whole list objects, public lists are read as json array with the streaming reader used for downloads and,
+ * as baseline, with the reflective {@link com.google.gson.Gson} binding used before. The peak heap while loading public lists is measured by the
+ * {@link RadarListJsonHeapBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RadarListJsonBenchmark {
+    @Param({"1000", "100000", "500000"})
+    private int listSize;
+    private RadarList list;
+    private String privateListJson;
+    private String publicListJson;
+
+    /**
+     * Creates the list and its json representations.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkUtils.bootstrap();
+        list = BenchmarkUtils.createList("benchmark", "benchmark.json", listSize, new Random(42));
+        privateListJson = RadarListManager.getGson().toJson(list);
+        publicListJson = RadarListManager.getGson().toJson(list.getPlayerMap().values());
+    }
+
+    /**
+     * Benchmarks loading a private list.
+     *
+     * @return Returns the loaded list.
+     */
+    @Benchmark
+    public RadarList loadPrivateList() {
+        return RadarListManager.getGson().fromJson(new StringReader(privateListJson), new TypeToken<RadarList>() {}.getType());
+    }
+
+    /**
+     * Benchmarks saving a private list.
+     *
+     * @return Returns the saved json.
+     */
+    @Benchmark
+    public String savePrivateList() {
+        return RadarListManager.getGson().toJson(list);
+    }
+
+    /**
+     * Benchmarks loading a public list with the streaming reader.
+     *
+     * @return Returns the loaded entries.
+     * @throws IOException Thrown, when the json could not be read.
+     */
+    @Benchmark
+    public Map<UUID, RadarListEntry> loadPublicList() throws IOException {
+        return RadarListEntryStreamReader.read(new StringReader(publicListJson), listSize);
+    }
+
+    /**
+     * Benchmarks loading a public list with the reflective {@link com.google.gson.Gson} binding, as baseline for {@link #loadPublicList()}.
+     *
+     * @return Returns the loaded entries.
+     */
+    @Benchmark
+    public Map<UUID, RadarListEntry> loadPublicListBaseline() {
+        return BenchmarkUtils.readPublicListWithGson(new StringReader(publicListJson));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.benchmark;
+
+import com.sun.management.ThreadMXBean;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListEntry;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListEntryStreamReader;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the peak heap while loading a public list with the streaming reader and with the reflective {@link com.google.gson.Gson} baseline,
+ * which holds the whole entry list and the map at the same time.
+ * <br><br>
+ * Before every invocation the heap is collected and the peak usage of the heap pools is reset. After loading, the summed peak usage of the heap
+ * pools minus the heap used before loading is reported as {@code peakHeapBytes} next to the single shot parse time, together with the bytes
+ * allocated by the loading thread as {@code allocatedBytes}. As the pools may peak at different times, the peak is an upper bound of the real
+ * one. The young generation is kept small, so the peak is not dominated by garbage filling a large eden.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:+UseSerialGC", "-Xmn16m"})
+public class RadarListJsonHeapBenchmark {
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+    private static final ThreadMXBean THREAD_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    @Param({"100000", "500000"})
+    private int listSize;
+    private String publicListJson;
+
+    /**
+     * The heap counters reported with the results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        /** The peak heap usage while loading minus the heap used before loading in bytes. */
+        public long peakHeapBytes;
+        /** The bytes allocated by the loading thread. */
+        public long allocatedBytes;
+        private long usedHeapBefore;
+        private long allocatedBytesBefore;
+
+        /**
+         * Collects the heap and resets the peak usage of the heap pools. This is not part of the measured time.
+         */
+        @Setup(Level.Invocation)
+        public void resetPeakUsage() {
+            // a single request may leave objects that became unreachable during the collection
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+
+            usedHeapBefore = 0;
+            for (final MemoryPoolMXBean pool : HEAP_POOLS) {
+                usedHeapBefore += pool.getUsage().getUsed();
+                pool.resetPeakUsage();
+            }
+            allocatedBytesBefore = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+        }
+
+        /**
+         * Records the peak heap usage and the allocated bytes since the last reset.
+         */
+        void recordPeakUsage() {
+            allocatedBytes = THREAD_BEAN.getCurrentThreadAllocatedBytes() - allocatedBytesBefore;
+            long peakHeap = 0;
+            for (final MemoryPoolMXBean pool : HEAP_POOLS) {
+                peakHeap += pool.getPeakUsage().getUsed();
+            }
+            peakHeapBytes = peakHeap - usedHeapBefore;
+        }
+    }
+
+    /**
+     * Creates the json representation of the public list.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkUtils.bootstrap();
+        publicListJson = RadarListManager.getGson()
+                .toJson(BenchmarkUtils.createList("benchmark", "benchmark.json", listSize, new Random(42)).getPlayerMap().values());
+    }
+
+    /**
+     * Measures the peak heap while loading a public list with the streaming reader.
+     *
+     * @param counters The heap counters.
+     * @return Returns the loaded entries.
+     * @throws IOException Thrown, when the json could not be read.
+     */
+    @Benchmark
+    public Map<UUID, RadarListEntry> loadPublicList(final HeapCounters counters) throws IOException {
+        final Map<UUID, RadarListEntry> entries = RadarListEntryStreamReader.read(new StringReader(publicListJson), listSize);
+        counters.recordPeakUsage();
+        return entries;
+    }
+
+    /**
+     * Measures the peak heap while loading a public list with the reflective {@link com.google.gson.Gson} binding.
+     *
+     * @param counters The heap counters.
+     * @return Returns the loaded entries.
+     */
+    @Benchmark
+    public Map<UUID, RadarListEntry> loadPublicListBaseline(final HeapCounters counters) {
+        final Map<UUID, RadarListEntry> entries = BenchmarkUtils.readPublicListWithGson(new StringReader(publicListJson));
+        counters.recordPeakUsage();
+        return entries;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.benchmark;
+
+import io.github.communityradargg.fabric.radarlistmanager.RadarList;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListEntry;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the lookups of the {@link RadarListManager}, which are called for every rendered player every frame.
+ * <br><br>
+ * The queried uuids contain one list member for every nine players in no list, which resembles a server with mostly unlisted players.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RadarListLookupBenchmark {
+    private static final int QUERY_COUNT = 4096;
+    @Param({"1", "4", "16"})
+    private int listCount;
+    @Param({"1000", "100000"})
+    private int listSize;
+    private Path directory;
+    private RadarListManager listManager;
+    private UUID[] queries;
+    private int nextQuery;
+
+    /**
+     * Writes the lists to a temporary directory and loads them like on startup.
+     *
+     * @throws IOException Thrown, when the lists could not be written.
+     */
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkUtils.bootstrap();
+        directory = Files.createTempDirectory("communityradar-benchmark");
+        final Path listDirectory = Files.createDirectory(directory.resolve("lists"));
+        final Path cacheDirectory = Files.createDirectory(directory.resolve("cache"));
+        final Random random = new Random(42);
+        final List<UUID> queryList = new ArrayList<>(QUERY_COUNT);
+        for (int i = 0; i < listCount; i++) {
+            final String namespace = "list" + i;
+            final Path path = listDirectory.resolve(namespace + ".json");
+            final RadarList list = BenchmarkUtils.createList(namespace, path.toString(), listSize, random);
+            BenchmarkUtils.writeList(list, path);
+            list.getPlayerMap().keySet().stream()
+                    .limit(QUERY_COUNT / 10 / listCount + 1)
+                    .forEach(queryList::add);
+        }
+
+        while (queryList.size() < QUERY_COUNT) {
+            queryList.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        Collections.shuffle(queryList, random);
+        queries = queryList.subList(0, QUERY_COUNT).toArray(UUID[]::new);
+
+        listManager = new RadarListManager(listDirectory + "/", cacheDirectory + "/");
+        // the index base and its bloom filter are rebuilt in the background and are in place after the warmup
+        listManager.loadPrivateLists();
+    }
+
+    /**
+     * Stops the manager and deletes the temporary directory.
+     *
+     * @throws IOException Thrown, when the directory could not be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        listManager.shutdown();
+        BenchmarkUtils.deleteDirectory(directory);
+    }
+
+    /**
+     * Benchmarks {@link RadarListManager#isInList(UUID)}.
+     *
+     * @return Returns the lookup result.
+     */
+    @Benchmark
+    public boolean isInList() {
+        return listManager.isInList(nextQuery());
+    }
+
+    /**
+     * Benchmarks {@link RadarListManager#getPrefix(UUID)}.
+     *
+     * @return Returns the lookup result.
+     */
+    @Benchmark
+    public String getPrefix() {
+        return listManager.getPrefix(nextQuery());
+    }
+
+    /**
+     * Benchmarks {@link RadarListManager#getRadarListEntry(UUID)}.
+     *
+     * @return Returns the lookup result.
+     */
+    @Benchmark
+    public Optional<RadarListEntry> getRadarListEntry() {
+        return listManager.getRadarListEntry(nextQuery());
+    }
+
+    /**
+     * Gets the next uuid to query.
+     *
+     * @return Returns the next uuid.
+     */
+    private UUID nextQuery() {
+        final UUID uuid = queries[nextQuery];
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return uuid;
+    }
+}
@@ -16,10 +16,17 @@
 package io.github.communityradargg.fabric;
 
 import io.github.communityradargg.fabric.commands.RadarCommand;
+import io.github.communityradargg.fabric.radarlistmanager.PublicListRefresher;
 import io.github.communityradargg.fabric.radarlistmanager.RadarListManager;
+import io.github.communityradargg.fabric.utils.ClientThreadQueue;
+import io.github.communityradargg.fabric.utils.IoExecutor;
+import io.github.communityradargg.fabric.utils.Utils;
 import net.fabricmc.api.ModInitializer;
 
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.ModContainer;
 import org.apache.logging.log4j.LogManager;
@@ -27,6 +34,7 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import java.io.File;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Optional;
 
 public class CommunityRadarMod implements ModInitializer {
@@ -34,8 +42,13 @@ public class CommunityRadarMod implements ModInitializer {
     private static final String MOD_ID = "communityradar";
     /** The version of the mod. */
     private static final String VERSION = getModVersion(MOD_ID);
+    /** The interval for refreshing the public lists, can be changed with the system property {@code communityradar.publicListRefreshMinutes}. */
+    private static final Duration PUBLIC_LIST_REFRESH_INTERVAL = Duration.ofMinutes(Math.max(1, Long.getLong("communityradar.publicListRefreshMinutes", 30)));
+    /** The maximum random deviation from the refresh interval of the public lists. */
+    private static final Duration PUBLIC_LIST_REFRESH_JITTER = PUBLIC_LIST_REFRESH_INTERVAL.dividedBy(6);
     private static final Logger logger = LogManager.getLogger(CommunityRadarMod.class);
     private static RadarListManager listManager;
+    private static PublicListRefresher publicListRefresher;
 
 	@Override
 	public void onInitialize() {
@@ -47,11 +60,21 @@ public class CommunityRadarMod implements ModInitializer {
             logger.error("Could not create directory: {}", directoryPath);
         }
 
-        listManager = new RadarListManager(directoryPath.getAbsolutePath() + "/");
+        final File cacheDirectoryPath = Paths.get(new File("")
+                        .getAbsolutePath(),"communityradar", "cache")
+                .toFile();
+        if (!cacheDirectoryPath.exists() && !cacheDirectoryPath.mkdirs()) {
+            logger.error("Could not create directory: {}", cacheDirectoryPath);
+        }
+
+        listManager = new RadarListManager(directoryPath.getAbsolutePath() + "/", cacheDirectoryPath.getAbsolutePath() + "/");
         registerPublicLists();
-        // Needs to be after loading public lists
+        publicListRefresher = new PublicListRefresher(listManager, PUBLIC_LIST_REFRESH_INTERVAL, PUBLIC_LIST_REFRESH_JITTER);
+        publicListRefresher.start();
+        // Needs to be after registering public lists, so they keep the precedence in the index
         listManager.loadPrivateLists();
         registerCommands();
+        registerEvents();
         logger.info("Successfully started the mod '{}'!", MOD_ID);
 	}
 
@@ -62,6 +85,23 @@ public class CommunityRadarMod implements ModInitializer {
         ClientCommandRegistrationCallback.EVENT.register(((dispatcher, _) -> RadarCommand.register(dispatcher)));
     }
 
+    /**
+     * Registers the events.
+     */
+    private void registerEvents() {
+        ClientTickEvents.END_CLIENT_TICK.register(_ -> ClientThreadQueue.drain());
+        ClientPlayConnectionEvents.JOIN.register((handler, _, client) -> Utils.updateGrieferGamesState(client, handler));
+        ClientPlayConnectionEvents.DISCONNECT.register((_, _) -> {
+            Utils.resetGrieferGamesState();
+            listManager.flushPrivateLists();
+        });
+        ClientLifecycleEvents.CLIENT_STOPPING.register(_ -> {
+            publicListRefresher.stop();
+            listManager.shutdown();
+            IoExecutor.shutdown();
+        });
+    }
+
     /**
      * Registers the public lists.
      */
@@ -15,6 +15,7 @@
  */
 package io.github.communityradargg.fabric.accessors;
 
+import io.github.communityradargg.fabric.utils.NameTagSource;
 import java.util.UUID;
 
 /**
@@ -34,4 +35,18 @@ public interface AvatarRenderStateAccessor {
      * @param uuid The player uuid.
      */
     void communityradar_fabric$setPlayerUuid(final UUID uuid);
+
+    /**
+     * Gets the name tag source field value.
+     *
+     * @return Returns the name tag source field value.
+     */
+    NameTagSource communityradar_fabric$getNameTagSource();
+
+    /**
+     * Sets the name tag source field value.
+     *
+     * @param nameTagSource The sources of the name tag.
+     */
+    void communityradar_fabric$setNameTagSource(final NameTagSource nameTagSource);
 }
@@ -17,25 +17,34 @@ package io.github.communityradargg.fabric.commands;
 
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.github.communityradargg.fabric.CommunityRadarMod;
 import io.github.communityradargg.fabric.radarlistmanager.RadarList;
 import io.github.communityradargg.fabric.radarlistmanager.RadarListEntry;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListFormat;
 import io.github.communityradargg.fabric.radarlistmanager.RadarListManager;
 import io.github.communityradargg.fabric.radarlistmanager.RadarListVisibility;
+import io.github.communityradargg.fabric.utils.ClientThreadQueue;
 import io.github.communityradargg.fabric.utils.Messages;
 import io.github.communityradargg.fabric.utils.RadarMessage;
 import io.github.communityradargg.fabric.utils.Utils;
+import io.github.communityradargg.fabric.utils.UuidNameCache;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommands;
 import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientPacketListener;
 import net.minecraft.client.multiplayer.PlayerInfo;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.server.permissions.Permission;
 import net.minecraft.server.permissions.PermissionLevel;
 import org.jetbrains.annotations.NotNull;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -43,6 +52,10 @@ public class RadarCommand {
     private static final String COMMAND_NAME = "radar";
     private static final List<String> COMMAND_ALIASES = List.of("communityradar", "scammer", "trustedmm", "mm");
     private static final PermissionLevel REQUIRED_PERMISSION_LEVEL = PermissionLevel.ALL;
+    /** The amount of lines shown on a single page of a paginated output. */
+    private static final int PAGE_SIZE = 10;
+    /** The amount of player names shown on a single page of the list - show subcommand. */
+    private static final int LIST_SHOW_PAGE_SIZE = 50;
 
     public static void register(final @NotNull CommandDispatcher<FabricClientCommandSource> dispatcher) {
         final LiteralCommandNode<FabricClientCommandSource> mainCommand = dispatcher.register(ClientCommands.literal(COMMAND_NAME)
@@ -58,9 +71,22 @@ public class RadarCommand {
                 )
                 .then(ClientCommands.literal("check")
                         .then(ClientCommands.argument("player", StringArgumentType.string())
+                                .then(ClientCommands.argument("page", IntegerArgumentType.integer(1))
+                                        .executes(context -> {
+                                            final String player = StringArgumentType.getString(context, "player");
+                                            if (!"*".equals(player)) {
+                                                // only checking all players is paged
+                                                context.getSource().sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Check.PAGE_NOT_ALLOWED)
+                                                        .build().toComponent());
+                                                return Command.SINGLE_SUCCESS;
+                                            }
+
+                                            final int page = IntegerArgumentType.getInteger(context, "page");
+                                            return handleCheckSubcommand(context.getSource(), player, page);
+                                        }))
                                 .executes(context -> {
                                     final String player = StringArgumentType.getString(context, "player");
-                                    return handleCheckSubcommand(context.getSource(), player);
+                                    return handleCheckSubcommand(context.getSource(), player, 1);
                                 }))
                         .executes(context -> handleMissingArgs(context.getSource()))
                 )
@@ -126,14 +152,35 @@ public class RadarCommand {
                         )
                         .then(ClientCommands.literal("show")
                                 .then(ClientCommands.argument("namespace", StringArgumentType.string())
+                                        .then(ClientCommands.argument("page", IntegerArgumentType.integer(1))
+                                                .executes(context -> {
+                                                    final String namespace = StringArgumentType.getString(context, "namespace");
+                                                    final int page = IntegerArgumentType.getInteger(context, "page");
+                                                    handleListShowSubcommand(context.getSource(), namespace, page);
+                                                    return Command.SINGLE_SUCCESS;
+                                                }))
                                         .executes(context -> {
                                             final String namespace = StringArgumentType.getString(context, "namespace");
-                                            handleListShowSubcommand(context.getSource(), namespace);
+                                            handleListShowSubcommand(context.getSource(), namespace, 1);
                                             return Command.SINGLE_SUCCESS;
                                         })
                                 )
                                 .executes(context -> handleMissingArgs(context.getSource()))
                         )
+                        .then(ClientCommands.literal("format")
+                                .then(ClientCommands.argument("namespace", StringArgumentType.string())
+                                        .then(ClientCommands.argument("format", StringArgumentType.word())
+                                                .executes(context -> {
+                                                    final String namespace = StringArgumentType.getString(context, "namespace");
+                                                    final String format = StringArgumentType.getString(context, "format");
+                                                    handleListFormatSubcommand(context.getSource(), namespace, format);
+                                                    return Command.SINGLE_SUCCESS;
+                                                })
+                                        )
+                                        .executes(context -> handleMissingArgs(context.getSource()))
+                                )
+                                .executes(context -> handleMissingArgs(context.getSource()))
+                        )
                         .then(ClientCommands.literal("prefix")
                                 .then(ClientCommands.argument("namespace", StringArgumentType.string())
                                         .then(ClientCommands.argument("prefix", StringArgumentType.greedyString())
@@ -150,6 +197,15 @@ public class RadarCommand {
                         )
                         .executes(context -> handleHelpSubcommand(context.getSource()))
                 )
+                .then(ClientCommands.literal("debug")
+                        .then(ClientCommands.literal("cache")
+                                .executes(context -> {
+                                    handleDebugCacheSubcommand(context.getSource());
+                                    return Command.SINGLE_SUCCESS;
+                                })
+                        )
+                        .executes(context -> handleMissingArgs(context.getSource()))
+                )
                 .executes(context -> handleHelpSubcommand(context.getSource())));
         COMMAND_ALIASES.forEach(alias -> dispatcher.register(ClientCommands.literal(alias).redirect(mainCommand)));
     }
@@ -179,6 +235,22 @@ public class RadarCommand {
         return Command.SINGLE_SUCCESS;
     }
 
+    /**
+     * Handles the debug - cache subcommand.
+     *
+     * @param source The command source, which executed the subcommand.
+     */
+    private static void handleDebugCacheSubcommand(final @NotNull FabricClientCommandSource source) {
+        final UuidNameCache cache = Utils.getUuidNameCache();
+        source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Debug.CACHE)
+                .replace("{size}", String.valueOf(cache.size()))
+                .replace("{maxSize}", String.valueOf(cache.getMaxSize()))
+                .replace("{hits}", String.valueOf(cache.getHits()))
+                .replace("{misses}", String.valueOf(cache.getMisses()))
+                .replace("{evictions}", String.valueOf(cache.getEvictions()))
+                .build().toComponent());
+    }
+
     /**
      * Handles the lists subcommand.
      *
@@ -210,13 +282,15 @@ public class RadarCommand {
      *
      * @param source The command source, which executed the subcommand.
      * @param playerArgument The given player argument to check.
+     * @param page The requested page when checking all players.
      * @return Returns the result of the command.
      */
-    private static int handleCheckSubcommand(final @NotNull FabricClientCommandSource source, final @NotNull String playerArgument) {
+    private static int handleCheckSubcommand(final @NotNull FabricClientCommandSource source, final @NotNull String playerArgument, final int page) {
         if ("*".equals(playerArgument)) {
-            handleCheckAllSubcommand(source);
+            handleCheckAllSubcommand(source, page);
+        } else {
+            handleCheckPlayerSubcommand(source, playerArgument);
         }
-        handleCheckPlayerSubcommand(source, playerArgument);
         return Command.SINGLE_SUCCESS;
     }
 
@@ -230,7 +304,7 @@ public class RadarCommand {
         source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.INPUT_PROCESSING)
                 .build().toComponent());
 
-        Utils.getUUID(playerArgument).thenAccept(checkPlayerOptional -> {
+        Utils.getUUID(playerArgument).thenAcceptAsync(checkPlayerOptional -> {
             if (checkPlayerOptional.isEmpty()) {
                 // player uuid could not be fetched
                 source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Check.FAILED)
@@ -254,15 +328,17 @@ public class RadarCommand {
                     .replace("{entryCreationDate}", Utils.formatDateTime(entry.entryCreationDate()))
                     .replace("{entryUpdateDate}", Utils.formatDateTime(entry.entryUpdateDate()))
                     .build().toComponent());
-        });
+        }, ClientThreadQueue.getExecutor());
     }
 
     /**
-     * Handles the check - all subcommand.
+     * Handles the check - all subcommand. All online players are checked in a single pass, then a summary per list and the requested page of
+     * the hits are shown.
      *
      * @param source The command source, which executed the subcommand.
+     * @param page The requested page.
      */
-    private static void handleCheckAllSubcommand(final @NotNull FabricClientCommandSource source) {
+    private static void handleCheckAllSubcommand(final @NotNull FabricClientCommandSource source, final int page) {
         final ClientPacketListener clientPacketListener = Minecraft.getInstance().getConnection();
         if (clientPacketListener == null) {
             source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Check.NOT_FOUND)
@@ -270,42 +346,118 @@ public class RadarCommand {
             return;
         }
 
-        boolean anyPlayerFound = false;
+        final List<UUID> onlineUuids = new ArrayList<>();
         for (final PlayerInfo playerInfo : clientPacketListener.getOnlinePlayers()) {
-            if (playerInfo.getProfile().id() == null) {
-                continue;
+            if (playerInfo.getProfile().id() != null) {
+                onlineUuids.add(playerInfo.getProfile().id());
             }
+        }
 
-            final Optional<RadarListEntry> listEntryOptional = CommunityRadarMod.getListManager()
-                    .getRadarListEntry(playerInfo.getProfile().id());
-            if (listEntryOptional.isEmpty()) {
-                // player uuid is on no list
-                continue;
-            }
+        final Map<RadarList, List<RadarListEntry>> hits = CommunityRadarMod.getListManager().checkAll(onlineUuids);
+        if (hits.isEmpty()) {
+            source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Check.NOT_FOUND)
+                    .build().toComponent());
+            return;
+        }
 
-            if (!anyPlayerFound) {
-                source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Check.EVERYONE)
-                        .build().toComponent());
-                anyPlayerFound = true;
+        int hitCount = 0;
+        final StringBuilder summary = new StringBuilder(Messages.Check.EVERYONE);
+        for (final Map.Entry<RadarList, List<RadarListEntry>> listHits : hits.entrySet()) {
+            hitCount += listHits.getValue().size();
+            summary.append('\n').append(Messages.Check.SUMMARY_ENTRY
+                    .replace("{prefix}", listHits.getKey().getPrefix().replace("&", "§"))
+                    .replace("{list}", listHits.getKey().getNamespace())
+                    .replace("{count}", String.valueOf(listHits.getValue().size())));
+        }
+
+        final int pageCount = getPageCount(hitCount, PAGE_SIZE);
+        if (page > pageCount) {
+            source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Pagination.PAGE_INVALID)
+                    .replace("{pages}", String.valueOf(pageCount))
+                    .build().toComponent());
+            return;
+        }
+
+        source.sendFeedback(new RadarMessage.RadarMessageBuilder(summary.toString())
+                .build().toComponent());
+
+        // the hits of the page are sent as a single message with one clickable line per player
+        final MutableComponent pageComponent = Component.empty();
+        final int firstHit = (page - 1) * PAGE_SIZE;
+        int hitIndex = 0;
+        for (final Map.Entry<RadarList, List<RadarListEntry>> listHits : hits.entrySet()) {
+            final String prefix = listHits.getKey().getPrefix();
+            for (final RadarListEntry entry : listHits.getValue()) {
+                if (hitIndex >= firstHit && hitIndex < firstHit + PAGE_SIZE) {
+                    if (hitIndex > firstHit) {
+                        pageComponent.append("\n");
+                    }
+
+                    final String hoverText = Messages.Check.CHECK_ENTRY
+                            .replace("{prefix}", prefix.replace("&", "§"))
+                            .replace("{name}", entry.name())
+                            .replace("{cause}", entry.cause())
+                            .replace("{entryCreationDate}", Utils.formatDateTime(entry.entryCreationDate()))
+                            .replace("{entryUpdateDate}", Utils.formatDateTime(entry.entryUpdateDate()))
+                            + "\n\n" + Messages.Check.EVERYONE_ENTRY_HOVER;
+                    pageComponent.append(new RadarMessage.RadarMessageBuilder(Messages.Check.EVERYONE_ENTRY)
+                            .replaceWithColorCodes("{prefix}", prefix)
+                            .replace("{name}", entry.name())
+                            .excludePrefix()
+                            .runCommandOnClick("/" + COMMAND_NAME + " check \"" + entry.name() + "\"")
+                            .showTextOnHover(hoverText)
+                            .build().toComponent());
+                }
+                hitIndex++;
             }
+        }
 
-            final RadarListEntry entry = listEntryOptional.get();
-            source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Check.CHECK_ENTRY)
-                    .replaceWithColorCodes("{prefix}", CommunityRadarMod.getListManager().getPrefix(entry.uuid()))
-                    .replace("{name}", entry.name())
-                    .replace("{cause}", entry.cause())
-                    .replace("{entryCreationDate}", Utils.formatDateTime(entry.entryCreationDate()))
-                    .replace("{entryUpdateDate}", Utils.formatDateTime(entry.entryUpdateDate()))
+        source.sendFeedback(pageComponent);
+        source.sendFeedback(buildPageNavigation(page, pageCount, "/" + COMMAND_NAME + " check \"*\" "));
+    }
+
+    /**
+     * Gets the amount of pages needed to show a given amount of lines.
+     *
+     * @param lineCount The amount of lines.
+     * @param pageSize The amount of lines on a single page.
+     * @return Returns the amount of pages.
+     */
+    private static int getPageCount(final int lineCount, final int pageSize) {
+        return Math.max(1, (lineCount + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Builds the navigation line of a paginated output with clickable links to the neighbouring pages.
+     *
+     * @param page The current page.
+     * @param pageCount The amount of pages.
+     * @param pageCommand The command showing a page, to which the page number is appended.
+     * @return Returns the navigation line.
+     */
+    private static @NotNull Component buildPageNavigation(final int page, final int pageCount, final @NotNull String pageCommand) {
+        final MutableComponent navigation = new RadarMessage.RadarMessageBuilder(Messages.Pagination.PAGE)
+                .replace("{page}", String.valueOf(page))
+                .replace("{pages}", String.valueOf(pageCount))
+                .build().toComponent().copy();
+        if (page > 1) {
+            navigation.append(new RadarMessage.RadarMessageBuilder(Messages.Pagination.PREVIOUS_PAGE)
+                    .excludePrefix()
+                    .runCommandOnClick(pageCommand + (page - 1))
+                    .showTextOnHover(Messages.Pagination.PREVIOUS_PAGE_HOVER)
                     .build().toComponent());
         }
 
-        if (!anyPlayerFound) {
-            source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Check.NOT_FOUND)
+        if (page < pageCount) {
+            navigation.append(new RadarMessage.RadarMessageBuilder(Messages.Pagination.NEXT_PAGE)
+                    .excludePrefix()
+                    .runCommandOnClick(pageCommand + (page + 1))
+                    .showTextOnHover(Messages.Pagination.NEXT_PAGE_HOVER)
                     .build().toComponent());
         }
+        return navigation;
     }
 
-
     /**
      * Handles the player - add subcommand.
      *
@@ -323,7 +475,7 @@ public class RadarCommand {
 
         source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.INPUT_PROCESSING)
                 .build().toComponent());
-        Utils.getUUID(player).thenAccept(uuidOptional -> {
+        Utils.getUUID(player).thenAcceptAsync(uuidOptional -> {
             if (uuidOptional.isEmpty()) {
                 // player uuid could not be fetched
                 source.sendFeedback(new RadarMessage.RadarMessageBuilder(player.startsWith("!") ? Messages.Player.NAME_INVALID_BEDROCK : Messages.Player.NAME_INVALID)
@@ -348,7 +500,7 @@ public class RadarCommand {
 
             source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Player.ADD_SUCCESS)
                     .build().toComponent());
-        });
+        }, ClientThreadQueue.getExecutor());
     }
 
     /**
@@ -369,7 +521,7 @@ public class RadarCommand {
         source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.INPUT_PROCESSING)
                 .build().toComponent());
         final RadarList list = listOptional.get();
-        Utils.getUUID(player).thenAccept(uuidOptional -> {
+        Utils.getUUID(player).thenAcceptAsync(uuidOptional -> {
             if (uuidOptional.isEmpty()) {
                 // player uuid could not be fetched
                 source.sendFeedback(new RadarMessage.RadarMessageBuilder(player.startsWith("!") ? Messages.Player.NAME_INVALID_BEDROCK : Messages.Player.NAME_INVALID)
@@ -385,10 +537,16 @@ public class RadarCommand {
                 return;
             }
 
-            list.getPlayerMap().remove(uuid);
+            if (!listManager.removeRadarListEntry(namespace, uuid)) {
+                // list is not private
+                source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Player.REMOVE_FAILED)
+                        .build().toComponent());
+                return;
+            }
+
             source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Player.REMOVE_SUCCESS)
                     .build().toComponent());
-        });
+        }, ClientThreadQueue.getExecutor());
     }
 
     /**
@@ -423,7 +581,7 @@ public class RadarCommand {
     private static void handleListDeleteSubcommand(final @NotNull FabricClientCommandSource source, final @NotNull String namespace) {
         final RadarListManager listManager = CommunityRadarMod.getListManager();
         if (!listManager.unregisterList(namespace)) {
-            // list is not existing, list is not private, file cannot be deleted
+            // list is not existing, list is not private
             source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.List.DELETE_FAILED)
                     .build().toComponent());
             return;
@@ -434,11 +592,12 @@ public class RadarCommand {
     }
 
     /**
-     * Handles the list - show subcommand.
+     * Handles the list - show subcommand. Only the requested page is built from the cached sorted entries of the list.
      *
      * @param source The command source, which executed the subcommand.
+     * @param page The requested page.
      */
-    private static void handleListShowSubcommand(final @NotNull FabricClientCommandSource source, final @NotNull String namespace) {
+    private static void handleListShowSubcommand(final @NotNull FabricClientCommandSource source, final @NotNull String namespace, final int page) {
         final Optional<RadarList> listOptional = CommunityRadarMod.getListManager().getRadarList(namespace);
         if (listOptional.isEmpty()) {
             // list is not existing
@@ -448,19 +607,76 @@ public class RadarCommand {
         }
 
         final RadarList list = listOptional.get();
-        if (list.getPlayerMap().isEmpty()) {
+        final Optional<List<RadarListEntry>> entriesOptional = list.isLoading() ? Optional.empty() : list.getSortedEntries();
+        if (entriesOptional.isEmpty()) {
+            // public list is still downloading or the entries are still being sorted
+            source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.List.SHOW_LOADING)
+                    .build().toComponent());
+            return;
+        }
+
+        final List<RadarListEntry> entries = entriesOptional.get();
+        if (entries.isEmpty()) {
             // list is empty
             source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.List.SHOW_EMPTY)
                     .build().toComponent());
             return;
         }
 
-        final StringBuilder players = new StringBuilder();
-        list.getPlayerMap().values().forEach(value -> players.append(value.name()).append(", "));
-        source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.List.SHOW_SUCCESS)
+        final int pageCount = getPageCount(entries.size(), LIST_SHOW_PAGE_SIZE);
+        if (page > pageCount) {
+            source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.Pagination.PAGE_INVALID)
+                    .replace("{pages}", String.valueOf(pageCount))
+                    .build().toComponent());
+            return;
+        }
+
+        final MutableComponent players = new RadarMessage.RadarMessageBuilder(Messages.List.SHOW_SUCCESS)
                 .replace("{list}", list.getNamespace())
-                .replaceWithColorCodes("{prefix}", listOptional.get().getPrefix())
-                .replace("{players}", players.substring(0, players.length() - 2))
+                .replaceWithColorCodes("{prefix}", list.getPrefix())
+                .replace("{count}", String.valueOf(entries.size()))
+                .build().toComponent().copy();
+        final int firstEntry = (page - 1) * LIST_SHOW_PAGE_SIZE;
+        final int lastEntry = Math.min(firstEntry + LIST_SHOW_PAGE_SIZE, entries.size());
+        for (int i = firstEntry; i < lastEntry; i++) {
+            final RadarListEntry entry = entries.get(i);
+            players.append(new RadarMessage.RadarMessageBuilder(i == lastEntry - 1 ? Messages.List.SHOW_ENTRY_LAST : Messages.List.SHOW_ENTRY)
+                    .replace("{name}", entry.name())
+                    .excludePrefix()
+                    .runCommandOnClick("/" + COMMAND_NAME + " check \"" + entry.name() + "\"")
+                    .showTextOnHover(Messages.List.SHOW_ENTRY_HOVER
+                            .replace("{cause}", entry.cause())
+                            .replace("{entryUpdateDate}", Utils.formatDateTime(entry.entryUpdateDate())))
+                    .build().toComponent());
+        }
+
+        source.sendFeedback(players);
+        source.sendFeedback(buildPageNavigation(page, pageCount, "/" + COMMAND_NAME + " list show \"" + list.getNamespace() + "\" "));
+    }
+
+    /**
+     * Handles the list - format subcommand.
+     *
+     * @param source The command source, which executed the subcommand.
+     */
+    private static void handleListFormatSubcommand(final @NotNull FabricClientCommandSource source, final @NotNull String namespace, final @NotNull String formatName) {
+        final Optional<RadarListFormat> formatOptional = RadarListFormat.fromName(formatName);
+        if (formatOptional.isEmpty()) {
+            // format is not existing
+            source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.List.FORMAT_INVALID)
+                    .build().toComponent());
+            return;
+        }
+
+        if (!CommunityRadarMod.getListManager().changeRadarListFormat(namespace, formatOptional.get())) {
+            // list is not existing, list is not private
+            source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.List.FORMAT_FAILED)
+                    .build().toComponent());
+            return;
+        }
+
+        source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.List.FORMAT_SUCCESS)
+                .replace("{format}", formatOptional.get().name().toLowerCase(Locale.ENGLISH))
                 .build().toComponent());
     }
 
@@ -470,19 +686,13 @@ public class RadarCommand {
      * @param source The command source, which executed the subcommand.
      */
     private static void handleListPrefixSubcommand(final @NotNull FabricClientCommandSource source, final @NotNull String namespace, final @NotNull String prefix) {
-        final RadarListManager listManager = CommunityRadarMod.getListManager();
-        final Optional<RadarList> listOptional = listManager.getRadarList(namespace);
-        if (listOptional.isEmpty()) {
+        if (!CommunityRadarMod.getListManager().setRadarListPrefix(namespace, prefix)) {
             // list is not existing
             source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.List.PREFIX_FAILED)
                     .build().toComponent());
             return;
         }
 
-        final RadarList list = listOptional.get();
-        list.setPrefix(prefix);
-        list.saveList();
-
         source.sendFeedback(new RadarMessage.RadarMessageBuilder(Messages.List.PREFIX_SUCCESS)
                 .replaceWithColorCodes("{prefix}", prefix)
                 .build().toComponent());
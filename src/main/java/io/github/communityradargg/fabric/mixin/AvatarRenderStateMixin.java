@@ -16,6 +16,7 @@
 package io.github.communityradargg.fabric.mixin;
 
 import io.github.communityradargg.fabric.accessors.AvatarRenderStateAccessor;
+import io.github.communityradargg.fabric.utils.NameTagSource;
 import net.minecraft.client.renderer.entity.state.AvatarRenderState;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
@@ -28,6 +29,8 @@ import java.util.UUID;
 public class AvatarRenderStateMixin implements AvatarRenderStateAccessor {
     @Unique
     private UUID communityradar_fabric$playerUuid;
+    @Unique
+    private NameTagSource communityradar_fabric$nameTagSource;
 
     @Override
     public UUID communityradar_fabric$getPlayerUuid() {
@@ -38,4 +41,14 @@ public class AvatarRenderStateMixin implements AvatarRenderStateAccessor {
     public void communityradar_fabric$setPlayerUuid(final UUID playerUuid) {
         this.communityradar_fabric$playerUuid = playerUuid;
     }
+
+    @Override
+    public NameTagSource communityradar_fabric$getNameTagSource() {
+        return communityradar_fabric$nameTagSource;
+    }
+
+    @Override
+    public void communityradar_fabric$setNameTagSource(final NameTagSource nameTagSource) {
+        this.communityradar_fabric$nameTagSource = nameTagSource;
+    }
 }
@@ -16,6 +16,7 @@
 package io.github.communityradargg.fabric.mixin;
 
 import io.github.communityradargg.fabric.accessors.AvatarRenderStateAccessor;
+import io.github.communityradargg.fabric.utils.NameTagSource;
 import net.minecraft.client.renderer.entity.player.AvatarRenderer;
 import net.minecraft.client.renderer.entity.state.AvatarRenderState;
 import net.minecraft.world.entity.Avatar;
@@ -30,15 +31,17 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(AvatarRenderer.class)
 public abstract class AvatarRendererMixin {
     /**
-     * Modifies the player entity render state to set the self added uuid field.
+     * Modifies the player entity render state to set the self added uuid and name tag source fields.
      *
-     * @param entity The avatar as the entity source for the uuid.
-     * @param state The avatar render state to set the uuid.
+     * @param entity The avatar as the entity source for the uuid and the name tag source.
+     * @param state The avatar render state to set the uuid and the name tag source.
      * @param partialTicks The partial ticks.
      * @param ci The callback info.
      */
     @Inject(method = "extractRenderState(Lnet/minecraft/world/entity/Avatar;Lnet/minecraft/client/renderer/entity/state/AvatarRenderState;F)V", at = @At(value = "TAIL"))
     private void modifyExtractRenderState(final Avatar entity, final AvatarRenderState state, final float partialTicks, final CallbackInfo ci) {
-        ((AvatarRenderStateAccessor) state).communityradar_fabric$setPlayerUuid(entity.getUUID());
+        final AvatarRenderStateAccessor stateAccessor = (AvatarRenderStateAccessor) state;
+        stateAccessor.communityradar_fabric$setPlayerUuid(entity.getUUID());
+        stateAccessor.communityradar_fabric$setNameTagSource(NameTagSource.of(entity));
     }
 }
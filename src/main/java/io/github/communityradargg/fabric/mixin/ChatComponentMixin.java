@@ -15,28 +15,19 @@
  */
 package io.github.communityradargg.fabric.mixin;
 
-import io.github.communityradargg.fabric.CommunityRadarMod;
+import io.github.communityradargg.fabric.utils.ChatMessageDecorator;
 import io.github.communityradargg.fabric.utils.Utils;
 import net.minecraft.client.gui.components.ChatComponent;
 import net.minecraft.network.chat.Component;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
-import java.util.Optional;
-import java.util.UUID;
-import java.util.concurrent.ExecutionException;
 
 /**
  * An abstract Mixin class for {@link ChatComponent}.
  */
 @Mixin(ChatComponent.class)
 public abstract class ChatComponentMixin {
-    @Unique
-    private static final Logger logger = LoggerFactory.getLogger(ChatComponentMixin.class);
-
     /**
      * Modifies the player chat messages. This gets called when a message should be added to the player chat.
      *
@@ -49,16 +40,7 @@ public abstract class ChatComponentMixin {
             return contents;
         }
 
-        // On a chat message there should be never be the need to call to the Mojang API.
-        try {
-            final Optional<UUID> playerUuid = Utils.getChatMessagePlayer(contents.getString()).get();
-
-            if (playerUuid.isPresent() && CommunityRadarMod.getListManager().isInList(playerUuid.get())) {
-                return Utils.includePrefixComponent(playerUuid.get(), contents);
-            }
-        } catch (final ExecutionException | InterruptedException e) {
-            logger.error("Could not get the player uuid in the message edit process", e);
-        }
-        return contents;
+        // never blocks, senders which cannot be resolved locally get their prefix patched in later
+        return ChatMessageDecorator.decorate(contents);
     }
 }
@@ -17,6 +17,7 @@ package io.github.communityradargg.fabric.mixin;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import io.github.communityradargg.fabric.accessors.AvatarRenderStateAccessor;
+import io.github.communityradargg.fabric.utils.NameTagSource;
 import io.github.communityradargg.fabric.utils.Utils;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.entity.EntityRenderer;
@@ -53,11 +54,13 @@ public abstract class EntityRendererMixin {
             return;
         }
 
-        final UUID uuid = ((AvatarRenderStateAccessor) avatarRenderState).communityradar_fabric$getPlayerUuid();
-        if (uuid == null || !Utils.isOnGrieferGames()) {
+        final AvatarRenderStateAccessor stateAccessor = (AvatarRenderStateAccessor) avatarRenderState;
+        final UUID uuid = stateAccessor.communityradar_fabric$getPlayerUuid();
+        final NameTagSource nameTagSource = stateAccessor.communityradar_fabric$getNameTagSource();
+        if (uuid == null || nameTagSource == null || !Utils.isOnGrieferGames()) {
             return;
         }
 
-        state.nameTag = Utils.includePrefixComponent(uuid, state.nameTag);
+        state.nameTag = Utils.decorateNameTag(uuid, nameTagSource, state.nameTag);
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.mixin;
+
+import io.github.communityradargg.fabric.accessors.PlayerInfoAccessor;
+import io.github.communityradargg.fabric.utils.DecorationMemo;
+import net.minecraft.client.multiplayer.PlayerInfo;
+import net.minecraft.network.chat.Component;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin for the class {@link PlayerInfo}.
+ */
+@Mixin(PlayerInfo.class)
+public class PlayerInfoMixin implements PlayerInfoAccessor {
+    @Unique
+    private DecorationMemo communityradar_fabric$tabListNameDecoration;
+
+    @Override
+    public DecorationMemo communityradar_fabric$getTabListNameDecoration() {
+        return communityradar_fabric$tabListNameDecoration;
+    }
+
+    @Override
+    public void communityradar_fabric$setTabListNameDecoration(final DecorationMemo decoration) {
+        this.communityradar_fabric$tabListNameDecoration = decoration;
+    }
+
+    /**
+     * Drops the cached tab list name decoration when the server changes the display name of the player.
+     *
+     * @param displayName The new display name.
+     * @param ci The callback info.
+     */
+    @Inject(method = "setTabListDisplayName", at = @At("HEAD"))
+    private void modifySetTabListDisplayName(final Component displayName, final CallbackInfo ci) {
+        this.communityradar_fabric$tabListNameDecoration = null;
+    }
+}
@@ -41,6 +41,6 @@ public abstract class PlayerTabOverlayMixin {
         if (!Utils.isOnGrieferGames()) {
             return component;
         }
-        return Utils.includePrefixComponent(info.getProfile().id(), component);
+        return Utils.decorateTabListName(info, component);
     }
 }
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map keyed by uuids, which consists of a large base map and a small delta of changes on top of it.
+ * <br><br>
+ * A changed copy only copies the delta and shares the base, so a single change does not copy all entries. Once the delta got large compared to
+ * the base, {@link #compact()} merges both into a new base. Removed keys are kept as tombstones in the delta, every change stores a new value or
+ * tombstone object, so the changes made since another snapshot of the same map can be told apart by identity.
+ *
+ * @param <V> The type of the values.
+ */
+public class LayeredUuidMap<V> extends AbstractMap<UUID, V> {
+    /** The minimum delta size at which a compaction is due. */
+    private static final int MINIMUM_COMPACTION_DELTA_SIZE = 64;
+    private final UuidHashMap<V> base;
+    private final UuidHashMap<Object> delta;
+    private final int size;
+    private Set<Map.Entry<UUID, V>> entrySet;
+
+    /**
+     * Constructs an empty {@link LayeredUuidMap}.
+     */
+    public LayeredUuidMap() {
+        this(new UuidHashMap<>(), new UuidHashMap<>());
+    }
+
+    /**
+     * Constructs a {@link LayeredUuidMap} on top of a base map, which must not be modified afterward.
+     *
+     * @param base The base map.
+     */
+    public LayeredUuidMap(final @NotNull UuidHashMap<V> base) {
+        this(base, new UuidHashMap<>());
+    }
+
+    /**
+     * Constructs a {@link LayeredUuidMap} out of a base map and a delta, which both must not be modified afterward.
+     *
+     * @param base The base map.
+     * @param delta The delta containing values and tombstones.
+     */
+    private LayeredUuidMap(final @NotNull UuidHashMap<V> base, final @NotNull UuidHashMap<Object> delta) {
+        this.base = base;
+        this.delta = delta;
+        final int[] currentSize = {base.size()};
+        delta.forEach((key, value) -> {
+            final boolean inBase = base.containsKey(key);
+            if (value instanceof Tombstone) {
+                currentSize[0] -= inBase ? 1 : 0;
+            } else {
+                currentSize[0] += inBase ? 0 : 1;
+            }
+        });
+        this.size = currentSize[0];
+    }
+
+    /**
+     * Creates a {@link LayeredUuidMap} with the entries of a map. A {@link UuidHashMap} is used as the base without copying it.
+     *
+     * @param map The map, which must not be modified afterward.
+     * @param <V> The type of the values.
+     * @return Returns the layered map.
+     */
+    public static <V> @NotNull LayeredUuidMap<V> of(final @NotNull Map<UUID, V> map) {
+        if (map instanceof LayeredUuidMap<V> layeredMap) {
+            return layeredMap;
+        }
+
+        if (map instanceof UuidHashMap<V> uuidHashMap) {
+            return new LayeredUuidMap<>(uuidHashMap);
+        }
+
+        final UuidHashMap<V> base = new UuidHashMap<>(map.size());
+        base.putAll(map);
+        return new LayeredUuidMap<>(base);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public @Nullable V get(final @Nullable Object key) {
+        final Object deltaValue = delta.get(key);
+        if (deltaValue != null) {
+            return valueOf(deltaValue);
+        }
+        return base.get(key);
+    }
+
+    /**
+     * Gets the value of a key and asks a bloom filter over the base first, so keys neither in the delta nor in the base are mostly rejected
+     * without probing the base.
+     *
+     * @param key The key.
+     * @param baseFilter The bloom filter built for the base or {@code null} if there is none.
+     * @return Returns the value or {@code null} if the key is not contained.
+     */
+    @Nullable V get(final @NotNull UUID key, final @Nullable UuidBloomFilter baseFilter) {
+        final Object deltaValue = delta.get(key);
+        if (deltaValue != null) {
+            return valueOf(deltaValue);
+        }
+
+        if (baseFilter != null && !baseFilter.mightContain(key)) {
+            return null;
+        }
+        return base.get(key);
+    }
+
+    @Override
+    public void forEach(final @NotNull BiConsumer<? super UUID, ? super V> action) {
+        base.forEach((key, value) -> {
+            if (!delta.containsKey(key)) {
+                action.accept(key, value);
+            }
+        });
+        delta.forEach((key, value) -> {
+            if (!(value instanceof Tombstone)) {
+                action.accept(key, valueOf(value));
+            }
+        });
+    }
+
+    @Override
+    public @NotNull Set<Map.Entry<UUID, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Gets the base map, which must not be modified.
+     *
+     * @return Returns the base map.
+     */
+    @NotNull UuidHashMap<V> getBase() {
+        return base;
+    }
+
+    /**
+     * Checks, whether the delta got large enough compared to the base, that merging both is cheaper than copying the delta on further changes.
+     *
+     * @return Returns, whether a compaction is due.
+     */
+    public boolean isCompactionDue() {
+        return delta.size() > Math.max(MINIMUM_COMPACTION_DELTA_SIZE, (int) Math.sqrt(base.size()));
+    }
+
+    /**
+     * Merges the delta into a copy of the base. This copies all entries and should not be done for every change.
+     *
+     * @return Returns a layered map with the same entries and an empty delta.
+     */
+    public @NotNull LayeredUuidMap<V> compact() {
+        if (delta.isEmpty()) {
+            return this;
+        }
+
+        final UuidHashMap<V> newBase = new UuidHashMap<>(base);
+        delta.forEach((key, value) -> {
+            if (value instanceof Tombstone) {
+                newBase.remove(key);
+            } else {
+                newBase.put(key, valueOf(value));
+            }
+        });
+        return new LayeredUuidMap<>(newBase);
+    }
+
+    /**
+     * Replaces the base by a new one, which already contains the changes of an older snapshot of this map. Only the changes made since that
+     * snapshot are kept in the delta.
+     *
+     * @param newBase The new base, which must not be modified afterward.
+     * @param containedSnapshot The older snapshot, whose changes are contained in the new base.
+     * @return Returns the layered map on top of the new base.
+     */
+    @NotNull LayeredUuidMap<V> rebase(final @NotNull UuidHashMap<V> newBase, final @NotNull LayeredUuidMap<V> containedSnapshot) {
+        final UuidHashMap<Object> newDelta = new UuidHashMap<>();
+        delta.forEach((key, value) -> {
+            // every change stores a new object, so an identical object is a change already contained in the new base
+            if (containedSnapshot.delta.get(key) != value) {
+                newDelta.put(key, value);
+            }
+        });
+        return new LayeredUuidMap<>(newBase, newDelta);
+    }
+
+    /**
+     * Starts a batch of changes, which copies the delta once for all of them.
+     *
+     * @return Returns the editor for the changes.
+     */
+    public @NotNull Editor edit() {
+        return new Editor();
+    }
+
+    /**
+     * Gets the value of a delta value.
+     *
+     * @param deltaValue The value or tombstone from the delta.
+     * @return Returns the value or {@code null} for a tombstone.
+     */
+    @SuppressWarnings("unchecked") // the delta only contains values of the type V and tombstones
+    private @Nullable V valueOf(final @NotNull Object deltaValue) {
+        return deltaValue instanceof Tombstone ? null : (V) deltaValue;
+    }
+
+    /**
+     * The marker of a removed key in the delta. A new instance is created for every removal.
+     */
+    private static final class Tombstone {}
+
+    /**
+     * An editor collecting a batch of changes into a copy of the delta. It is not thread safe and must not be used after building.
+     */
+    public final class Editor {
+        private final UuidHashMap<Object> newDelta;
+
+        /**
+         * Constructs an {@link Editor}.
+         */
+        private Editor() {
+            this.newDelta = new UuidHashMap<>(delta);
+        }
+
+        /**
+         * Gets the value of a key including the changes made by this editor.
+         *
+         * @param key The key.
+         * @return Returns the value or {@code null} if the key is not contained.
+         */
+        public @Nullable V get(final @NotNull UUID key) {
+            final Object deltaValue = newDelta.get(key);
+            if (deltaValue != null) {
+                return valueOf(deltaValue);
+            }
+            return base.get(key);
+        }
+
+        /**
+         * Puts a value for a key.
+         *
+         * @param key The key.
+         * @param value The value.
+         * @return Returns the editor after putting the value.
+         */
+        public @NotNull Editor put(final @NotNull UUID key, final @NotNull V value) {
+            newDelta.put(key, value);
+            return this;
+        }
+
+        /**
+         * Removes a key if it is contained.
+         *
+         * @param key The key.
+         * @return Returns the editor after removing the key.
+         */
+        public @NotNull Editor remove(final @NotNull UUID key) {
+            if (get(key) != null) {
+                newDelta.put(key, new Tombstone());
+            }
+            return this;
+        }
+
+        /**
+         * Builds the changed map.
+         *
+         * @return Returns the layered map containing the changes.
+         */
+        public @NotNull LayeredUuidMap<V> build() {
+            return new LayeredUuidMap<>(base, newDelta);
+        }
+    }
+
+    /**
+     * The entry set view of the map, which iterates the base entries not overridden by the delta and the values of the delta afterward.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<UUID, V>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final @Nullable Object object) {
+            if (!(object instanceof Map.Entry<?, ?> entry)) {
+                return false;
+            }
+
+            final V value = get(entry.getKey());
+            return value != null && value.equals(entry.getValue());
+        }
+
+        @Override
+        public @NotNull Iterator<Map.Entry<UUID, V>> iterator() {
+            return new Iterator<>() {
+                private final Iterator<Map.Entry<UUID, V>> baseIterator = base.entrySet().iterator();
+                private final Iterator<Map.Entry<UUID, Object>> deltaIterator = delta.entrySet().iterator();
+                private Map.Entry<UUID, V> nextEntry = advance();
+
+                @Override
+                public boolean hasNext() {
+                    return nextEntry != null;
+                }
+
+                @Override
+                public Map.Entry<UUID, V> next() {
+                    if (nextEntry == null) {
+                        throw new NoSuchElementException();
+                    }
+
+                    final Map.Entry<UUID, V> entry = nextEntry;
+                    nextEntry = advance();
+                    return entry;
+                }
+
+                /**
+                 * Gets the next visible entry.
+                 *
+                 * @return Returns the next entry or {@code null} if there is none.
+                 */
+                private @Nullable Map.Entry<UUID, V> advance() {
+                    while (baseIterator.hasNext()) {
+                        final Map.Entry<UUID, V> entry = baseIterator.next();
+                        if (!delta.containsKey(entry.getKey())) {
+                            return entry;
+                        }
+                    }
+
+                    while (deltaIterator.hasNext()) {
+                        final Map.Entry<UUID, Object> entry = deltaIterator.next();
+                        if (!(entry.getValue() instanceof Tombstone)) {
+                            return new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), valueOf(entry.getValue()));
+                        }
+                    }
+                    return null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import io.github.communityradargg.fabric.CommunityRadarMod;
+import io.github.communityradargg.fabric.utils.IoExecutor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * A class managing the on-disk cache of public lists.
+ * <br><br>
+ * For every public list the last successfully downloaded body is stored together with its {@code ETag} and {@code Last-Modified} headers,
+ * which are used for conditional requests on the next download.
+ */
+public class PublicListCache {
+    private static final Logger logger = LogManager.getLogger(PublicListCache.class);
+    private final String directoryPath;
+    private final HttpClient httpClient;
+
+    /**
+     * Constructs a {@link PublicListCache}.
+     *
+     * @param directoryPath The directory path of the cache.
+     */
+    public PublicListCache(final @NotNull String directoryPath) {
+        this.directoryPath = directoryPath;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(IoExecutor.getHttpClientExecutor())
+                .build();
+    }
+
+    /**
+     * Gets the path of the cached body of a public list if it exists.
+     *
+     * @param namespace The namespace of the list.
+     * @return Returns an optional with the path of the cached body.
+     */
+    public @NotNull Optional<Path> getCachedBody(final @NotNull String namespace) {
+        final Path bodyPath = getBodyPath(namespace);
+        return Files.isRegularFile(bodyPath) ? Optional.of(bodyPath) : Optional.empty();
+    }
+
+    /**
+     * Removes the cached body and metadata of a public list, so the next download is not conditional.
+     *
+     * @param namespace The namespace of the list.
+     */
+    public void invalidate(final @NotNull String namespace) {
+        try {
+            Files.deleteIfExists(getBodyPath(namespace));
+            Files.deleteIfExists(getMetadataPath(namespace));
+        } catch (final IOException e) {
+            logger.error("Could not invalidate the cache of public list '{}'", namespace, e);
+        }
+    }
+
+    /**
+     * Downloads a public list into the cache with a conditional request. This is blocking.
+     *
+     * @param namespace The namespace of the list.
+     * @param url The url of the list.
+     * @return Returns an optional with the path of the new body, it will be empty if the cached body is still up to date.
+     * @throws IOException Thrown, when the download failed or the server answered with an unexpected status code.
+     * @throws InterruptedException Thrown, when the download was interrupted.
+     */
+    public @NotNull Optional<Path> download(final @NotNull String namespace, final @NotNull String url) throws IOException, InterruptedException {
+        final Path bodyPath = getBodyPath(namespace);
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("User-Agent", CommunityRadarMod.getModId() + "/" + CommunityRadarMod.getVersion())
+                .GET();
+
+        final JsonObject metadata = Files.isRegularFile(bodyPath) ? readMetadata(namespace) : null;
+        if (metadata != null) {
+            if (metadata.has("etag")) {
+                requestBuilder.header("If-None-Match", metadata.get("etag").getAsString());
+            }
+
+            if (metadata.has("lastModified")) {
+                requestBuilder.header("If-Modified-Since", metadata.get("lastModified").getAsString());
+            }
+        }
+
+        final Path tempPath = Paths.get(directoryPath, namespace + ".json.tmp");
+        final HttpResponse<Path> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofFile(tempPath));
+        if (response.statusCode() == 304) {
+            Files.deleteIfExists(tempPath);
+            return Optional.empty();
+        }
+
+        if (response.statusCode() != 200) {
+            Files.deleteIfExists(tempPath);
+            throw new IOException("Requesting data from '" + url + "' resulted in following status code: " + response.statusCode());
+        }
+
+        // the body has to be replaced before the metadata, otherwise a crash could pair new validators with an old body
+        Files.move(tempPath, bodyPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        final JsonObject newMetadata = new JsonObject();
+        response.headers().firstValue("ETag").ifPresent(etag -> newMetadata.addProperty("etag", etag));
+        response.headers().firstValue("Last-Modified").ifPresent(lastModified -> newMetadata.addProperty("lastModified", lastModified));
+        writeMetadata(namespace, newMetadata);
+        return Optional.of(bodyPath);
+    }
+
+    /**
+     * Reads the stored response headers of a cached public list.
+     *
+     * @param namespace The namespace of the list.
+     * @return Returns the metadata or {@code null} if there is none.
+     */
+    private @Nullable JsonObject readMetadata(final @NotNull String namespace) {
+        final Path metadataPath = getMetadataPath(namespace);
+        if (!Files.isRegularFile(metadataPath)) {
+            return null;
+        }
+
+        try (final Reader reader = Files.newBufferedReader(metadataPath, StandardCharsets.UTF_8)) {
+            return RadarListManager.getGson().fromJson(reader, JsonObject.class);
+        } catch (final IOException | JsonIOException | JsonSyntaxException e) {
+            logger.error("Could not read cache metadata of public list '{}'", namespace, e);
+        }
+        return null;
+    }
+
+    /**
+     * Writes the response headers of a cached public list.
+     *
+     * @param namespace The namespace of the list.
+     * @param metadata The metadata to write.
+     * @throws IOException Thrown, when writing failed.
+     */
+    private void writeMetadata(final @NotNull String namespace, final @NotNull JsonObject metadata) throws IOException {
+        final Path tempPath = Paths.get(directoryPath, namespace + ".meta.json.tmp");
+        try (final Writer writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+            RadarListManager.getGson().toJson(metadata, writer);
+        }
+        Files.move(tempPath, getMetadataPath(namespace), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Gets the path of the cached body of a public list.
+     *
+     * @param namespace The namespace of the list.
+     * @return Returns the path of the cached body.
+     */
+    private @NotNull Path getBodyPath(final @NotNull String namespace) {
+        return Paths.get(directoryPath, namespace + ".json");
+    }
+
+    /**
+     * Gets the path of the cached metadata of a public list.
+     *
+     * @param namespace The namespace of the list.
+     * @return Returns the path of the cached metadata.
+     */
+    private @NotNull Path getMetadataPath(final @NotNull String namespace) {
+        return Paths.get(directoryPath, namespace + ".meta.json");
+    }
+}
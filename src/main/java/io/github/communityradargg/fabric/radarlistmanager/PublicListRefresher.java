@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import io.github.communityradargg.fabric.utils.IoExecutor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A class refreshing the public lists of a {@link RadarListManager} periodically in the background.
+ * <br><br>
+ * Every run is scheduled with a random jitter, so not all clients request the lists at the same time.
+ */
+public class PublicListRefresher {
+    private static final Logger logger = LogManager.getLogger(PublicListRefresher.class);
+    private final RadarListManager listManager;
+    private final long intervalMillis;
+    private final long jitterMillis;
+    private volatile boolean stopped;
+
+    /**
+     * Constructs a {@link PublicListRefresher}.
+     *
+     * @param listManager The list manager whose public lists should be refreshed.
+     * @param interval The interval between two refreshes.
+     * @param jitter The maximum random deviation from the interval.
+     * @throws IllegalArgumentException Thrown, when the interval is not positive or the jitter is negative or not smaller than the interval.
+     */
+    public PublicListRefresher(final @NotNull RadarListManager listManager, final @NotNull Duration interval, final @NotNull Duration jitter) {
+        if (interval.isNegative() || interval.isZero() || jitter.isNegative() || jitter.compareTo(interval) >= 0) {
+            throw new IllegalArgumentException("Invalid refresh interval '" + interval + "' with jitter '" + jitter + "'");
+        }
+
+        this.listManager = listManager;
+        this.intervalMillis = interval.toMillis();
+        this.jitterMillis = jitter.toMillis();
+    }
+
+    /**
+     * Starts the periodic refreshing.
+     */
+    public void start() {
+        scheduleNextRefresh();
+    }
+
+    /**
+     * Stops the periodic refreshing.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Schedules the next refresh with a random jitter.
+     */
+    private void scheduleNextRefresh() {
+        if (stopped || IoExecutor.isShutdown()) {
+            return;
+        }
+
+        final long delayMillis = intervalMillis + ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1);
+        IoExecutor.schedule(this::refresh, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Refreshes the public lists and schedules the next refresh once finished.
+     */
+    private void refresh() {
+        if (stopped) {
+            return;
+        }
+
+        logger.debug("Refreshing public lists");
+        listManager.refreshPublicLists()
+                .whenComplete((_, _) -> scheduleNextRefresh());
+    }
+}
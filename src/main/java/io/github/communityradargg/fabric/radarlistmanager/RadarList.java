@@ -15,19 +15,21 @@
  */
 package io.github.communityradargg.fabric.radarlistmanager;
 
-import com.google.gson.JsonIOException;
-import com.google.gson.JsonSyntaxException;
 import com.google.gson.annotations.SerializedName;
-import com.google.gson.reflect.TypeToken;
 import io.github.communityradargg.fabric.CommunityRadarMod;
+import io.github.communityradargg.fabric.utils.IoExecutor;
+import net.minecraft.network.chat.Component;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URI;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,24 +37,40 @@ import java.util.UUID;
 
 /**
  * A class representing a radar list.
+ * <br><br>
+ * The player map is published as an immutable snapshot, every change replaces it with a modified copy, which shares the unchanged entries with the
+ * previous snapshot. Readers therefore never need a lock, while all changes are applied by the {@link RadarListManager} and are serialized by the
+ * lock of the list.
  */
 public class RadarList {
     private static final Logger logger = LogManager.getLogger(RadarList.class);
+    /** The estimated size of a single entry in a json file in bytes. */
+    private static final int ESTIMATED_ENTRY_BYTES = 200;
+    /** The order of the sorted entries, which is stable as the uuid is unique. */
+    private static final Comparator<RadarListEntry> SORTED_ENTRIES_ORDER = Comparator.comparing(RadarListEntry::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(RadarListEntry::uuid);
+    /** The size up to which lists are sorted on the calling thread. */
+    private static final int SYNCHRONOUS_SORT_LIMIT = 10_000;
     @SerializedName("VERSION")
     @SuppressWarnings("unused") // needed in future
     private final int version = 1;
     @SerializedName("namespace")
     private final String namespace;
     @SerializedName("playerMap")
-    private final Map<UUID, RadarListEntry> playerMap;
+    private volatile Map<UUID, RadarListEntry> playerMap;
     @SerializedName("visibility")
     private final RadarListVisibility visibility;
     @SerializedName("prefix")
-    private String prefix;
-    private transient String url;
+    private volatile String prefix;
+    private transient volatile Component prefixComponent;
+    private transient volatile String url;
+    private transient volatile boolean loading;
+    private transient volatile SortedEntries sortedEntries;
+    private transient volatile Map<UUID, RadarListEntry> sortingPlayerMap;
+    private transient int journalLength;
 
     /**
-     * Constructs a {@link RadarList}.
+     * Constructs a {@link RadarList}. Public lists start in the loading state until they have been loaded from the cache or downloaded.
      *
      * @param namespace The namespace for the list.
      * @param prefix The prefix for the list.
@@ -63,9 +81,9 @@ public class RadarList {
         this.namespace = namespace;
         this.prefix = prefix;
         this.visibility = visibility;
-        this.playerMap = new HashMap<>();
+        this.playerMap = new LayeredUuidMap<>();
         this.url = url;
-        load();
+        this.loading = visibility == RadarListVisibility.PUBLIC;
     }
 
     /**
@@ -107,12 +125,38 @@ public class RadarList {
     }
 
     /**
-     * Sets the prefix of the list.
+     * Gets the prebuilt prefix component of the list, which already contains the trailing separator space.
+     *
+     * @return Returns the prefix component.
+     */
+    public @NotNull Component getPrefixComponent() {
+        Component component = prefixComponent;
+        if (component == null) {
+            // lists loaded by gson do not run the constructor
+            component = buildPrefixComponent(prefix);
+            prefixComponent = component;
+        }
+        return component;
+    }
+
+    /**
+     * Sets the prefix of the list without recording the change.
      *
      * @param prefix The prefix to set.
      */
-    public void setPrefix(final @NotNull String prefix) {
+    void applyPrefix(final @NotNull String prefix) {
         this.prefix = prefix;
+        this.prefixComponent = buildPrefixComponent(prefix);
+    }
+
+    /**
+     * Builds the prefix component for a given prefix by considering color codes.
+     *
+     * @param prefix The prefix to build the component for.
+     * @return Returns the built prefix component.
+     */
+    private static @NotNull Component buildPrefixComponent(final @NotNull String prefix) {
+        return Component.literal(prefix.replace("&", "§") + " ");
     }
 
     /**
@@ -143,37 +187,103 @@ public class RadarList {
     }
 
     /**
-     * Gets the player map of the list.
+     * Gets the current snapshot of the player map of the list, which does not change afterward.
      *
-     * @return Returns the player map.
+     * @return Returns the unmodifiable player map.
      */
     public @NotNull Map<UUID, RadarListEntry> getPlayerMap() {
-        return playerMap;
+        return Collections.unmodifiableMap(playerMap);
     }
 
     /**
-     * Adds a radar list entry to the list if it is private.
+     * Gets the entries of the list sorted by their name, ignoring the case, and then by their uuid. The sorted view is cached until the
+     * player map is replaced by a change, so repeated calls, like when paging through the list, do not sort again. Large lists are sorted on the
+     * {@link IoExecutor}, so the client thread does not block.
      *
-     * @param radarListEntry The entry to add.
+     * @return Returns an optional with the unmodifiable sorted entries, it will be empty while the entries are still being sorted.
      */
-    public void addRadarListEntry(final @NotNull RadarListEntry radarListEntry) {
-        if (visibility == RadarListVisibility.PRIVATE) {
-            playerMap.put(radarListEntry.uuid(), radarListEntry);
-            saveList();
+    public @NotNull Optional<List<RadarListEntry>> getSortedEntries() {
+        final Map<UUID, RadarListEntry> currentPlayerMap = playerMap;
+        final SortedEntries currentSortedEntries = sortedEntries;
+        if (currentSortedEntries != null && currentSortedEntries.playerMap() == currentPlayerMap) {
+            return Optional.of(currentSortedEntries.entries());
+        }
+
+        if (currentPlayerMap.size() <= SYNCHRONOUS_SORT_LIMIT) {
+            return Optional.of(sortEntries(currentPlayerMap));
+        }
+
+        // a race only leads to sorting the same snapshot twice
+        if (sortingPlayerMap != currentPlayerMap) {
+            sortingPlayerMap = currentPlayerMap;
+            IoExecutor.execute(() -> sortEntries(currentPlayerMap));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Sorts the entries of a snapshot of the player map and caches them as sorted view.
+     *
+     * @param sortedPlayerMap The snapshot of the player map to sort.
+     * @return Returns the unmodifiable sorted entries.
+     */
+    private @NotNull List<RadarListEntry> sortEntries(final @NotNull Map<UUID, RadarListEntry> sortedPlayerMap) {
+        final RadarListEntry[] entries = sortedPlayerMap.values().toArray(new RadarListEntry[0]);
+        Arrays.sort(entries, SORTED_ENTRIES_ORDER);
+        final List<RadarListEntry> sortedList = Collections.unmodifiableList(Arrays.asList(entries));
+        sortedEntries = new SortedEntries(sortedPlayerMap, sortedList);
+        if (sortingPlayerMap == sortedPlayerMap) {
+            sortingPlayerMap = null;
+        }
+        return sortedList;
+    }
+
+    /**
+     * Replaces the player map of a freshly decoded list.
+     *
+     * @param playerMap The player map to set.
+     */
+    void setPlayerMap(final @NotNull Map<UUID, RadarListEntry> playerMap) {
+        this.playerMap = playerMap;
+    }
+
+    /**
+     * Applies a batch of changes to a copy of the player map and publishes it afterward, without recording the changes. Only the delta of the
+     * player map is copied, the whole map is only copied once the delta got too large. Changes are only applied by the {@link RadarListManager}.
+     *
+     * @param changes The changes to apply.
+     */
+    synchronized void applyChanges(final @NotNull List<RadarListChange> changes) {
+        if (changes.isEmpty()) {
+            return;
         }
+
+        final LayeredUuidMap<RadarListEntry>.Editor editor = LayeredUuidMap.of(playerMap).edit();
+        changes.forEach(change -> change.applyTo(this, editor));
+        final LayeredUuidMap<RadarListEntry> newPlayerMap = editor.build();
+        playerMap = newPlayerMap.isCompactionDue() ? newPlayerMap.compact() : newPlayerMap;
     }
 
     /**
-     * Loads a radar list entry.
+     * Gets the amount of changes in the journal of the list since the last snapshot.
      *
-     * @param radarListEntry The entry to load.
+     * @return Returns the journal length.
      */
-    private void loadRadarListEntry(final @NotNull RadarListEntry radarListEntry) {
-        playerMap.put(radarListEntry.uuid(), radarListEntry);
+    int getJournalLength() {
+        return journalLength;
     }
 
     /**
-     * Saves a list to the disk if it is private.
+     * Sets the amount of changes in the journal of the list since the last snapshot.
+     *
+     * @param journalLength The journal length to set.
+     */
+    void setJournalLength(final int journalLength) {
+        this.journalLength = journalLength;
+    }
+
+    /**
+     * Saves a full snapshot of the list to the disk if it is private.
      */
     public void saveList() {
         if (visibility == RadarListVisibility.PRIVATE) {
@@ -182,16 +292,81 @@ public class RadarList {
     }
 
     /**
-     * Loads a public list.
+     * Loads a public list from the cached body of its last download. This is blocking and should not be called on the client thread.
+     *
+     * @param cache The cache of the public lists.
+     * @return Returns, whether entries were loaded.
      */
-    private void loadPublicList() {
-        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(URI.create(url).toURL().openStream()))) {
-            final List<RadarListEntry> players = RadarListManager.getGson()
-                    .fromJson(reader, new TypeToken<List<RadarListEntry>>() {}.getType());
-            players.forEach(this::loadRadarListEntry);
-        } catch (final IOException | JsonIOException | JsonSyntaxException e) {
-            logger.error("Could not load public list", e);
+    public synchronized boolean loadCached(final @NotNull PublicListCache cache) {
+        if (visibility != RadarListVisibility.PUBLIC) {
+            return false;
+        }
+
+        final Optional<Path> cachedBody = cache.getCachedBody(namespace);
+        if (cachedBody.isEmpty()) {
+            return false;
         }
+
+        if (!loadPublicList(cachedBody.get())) {
+            // a broken cached body must not be revalidated, forcing a full download
+            cache.invalidate(namespace);
+            return false;
+        }
+
+        loading = false;
+        return true;
+    }
+
+    /**
+     * Downloads a public list if it has changed since the last download and loads it. This is blocking and should not be called on the client thread.
+     *
+     * @param cache The cache of the public lists.
+     * @return Returns, whether entries were loaded.
+     */
+    public synchronized boolean refresh(final @NotNull PublicListCache cache) {
+        if (visibility != RadarListVisibility.PUBLIC) {
+            return false;
+        }
+
+        try {
+            final Optional<Path> downloadedBody = cache.download(namespace, url);
+            if (downloadedBody.isEmpty()) {
+                // the cached body is still up to date
+                return false;
+            }
+
+            if (!loadPublicList(downloadedBody.get())) {
+                // the validators of a broken body must not be sent again, otherwise every later refresh would be answered with 304
+                cache.invalidate(namespace);
+                return false;
+            }
+            return true;
+        } catch (final IOException e) {
+            logger.error("Could not download public list '{}'", namespace, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            loading = false;
+        }
+        return false;
+    }
+
+    /**
+     * Loads a public list from a file. The entries are streamed into a new map, which replaces the current one at once after parsing has finished.
+     *
+     * @param path The path of the file.
+     * @return Returns, whether the list was loaded.
+     */
+    private boolean loadPublicList(final @NotNull Path path) {
+        try (final BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            // the previous size is the best guess for the new size, otherwise estimating from the file size
+            final int expectedSize = playerMap.isEmpty() ? (int) Math.min(Files.size(path) / ESTIMATED_ENTRY_BYTES, Integer.MAX_VALUE) : playerMap.size();
+            playerMap = RadarListEntryStreamReader.read(reader, expectedSize);
+            return true;
+        } catch (final IOException | IllegalStateException e) {
+            logger.error("Could not load public list '{}'", namespace, e);
+        }
+        return false;
     }
 
     /**
@@ -204,11 +379,19 @@ public class RadarList {
     }
 
     /**
-     * Loads a list if it is public.
+     * Checks, whether the list is still loading its entries.
+     *
+     * @return Returns, whether the list is loading.
      */
-    public void load() {
-        if (visibility == RadarListVisibility.PUBLIC) {
-            loadPublicList();
-        }
+    public boolean isLoading() {
+        return loading;
     }
+
+    /**
+     * A record holding the sorted entries of a snapshot of the player map.
+     *
+     * @param playerMap The snapshot of the player map, which was sorted.
+     * @param entries The sorted entries.
+     */
+    private record SortedEntries(@NotNull Map<UUID, RadarListEntry> playerMap, @NotNull List<RadarListEntry> entries) {}
 }
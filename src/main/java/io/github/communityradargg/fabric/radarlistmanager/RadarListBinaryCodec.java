@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import org.jetbrains.annotations.NotNull;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A class encoding and decoding private lists in a compact, versioned binary format.
+ * <br><br>
+ * Layout of version 1, all numbers in big-endian order:
+ * <pre>
+ * int magic, short version
+ * int stringCount, stringCount * (int byteLength, byte[] utf8)
+ * int namespaceIndex, int prefixIndex
+ * int entryCount, entryCount * (long uuidMost, long uuidLeast, int nameIndex, int causeIndex, long createdEpochSecond, long updatedEpochSecond, int expiryDays)
+ * </pre>
+ * Names and causes are stored once in the string table and referenced by index. Timestamps are stored as epoch seconds in UTC.
+ */
+public class RadarListBinaryCodec {
+    private static final int MAGIC = 0x43524C53;
+    private static final short VERSION = 1;
+    /** The size of a single encoded entry in bytes. */
+    private static final int ENTRY_BYTES = 44;
+
+    /**
+     * Encodes a private list.
+     *
+     * @param list The list to encode.
+     * @return Returns the encoded list.
+     */
+    public static byte[] encode(final @NotNull RadarList list) {
+        final Collection<RadarListEntry> entries = list.getPlayerMap().values();
+        final Map<String, Integer> stringIndexes = new HashMap<>();
+        final List<String> strings = new ArrayList<>();
+        final int namespaceIndex = intern(list.getNamespace(), stringIndexes, strings);
+        final int prefixIndex = intern(list.getPrefix(), stringIndexes, strings);
+        for (final RadarListEntry entry : entries) {
+            intern(entry.name(), stringIndexes, strings);
+            intern(entry.cause(), stringIndexes, strings);
+        }
+
+        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream(64 + entries.size() * 48);
+        try (final DataOutputStream data = new DataOutputStream(byteStream)) {
+            data.writeInt(MAGIC);
+            data.writeShort(VERSION);
+            data.writeInt(strings.size());
+            for (final String string : strings) {
+                final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+
+            data.writeInt(namespaceIndex);
+            data.writeInt(prefixIndex);
+            data.writeInt(entries.size());
+            for (final RadarListEntry entry : entries) {
+                data.writeLong(entry.uuid().getMostSignificantBits());
+                data.writeLong(entry.uuid().getLeastSignificantBits());
+                data.writeInt(stringIndexes.get(entry.name()));
+                data.writeInt(stringIndexes.get(entry.cause()));
+                data.writeLong(entry.entryCreationDate().toEpochSecond(ZoneOffset.UTC));
+                data.writeLong(entry.entryUpdateDate().toEpochSecond(ZoneOffset.UTC));
+                data.writeInt(entry.expiryDays());
+            }
+        } catch (final IOException e) {
+            // a byte array output stream does not throw
+            throw new IllegalStateException(e);
+        }
+        return byteStream.toByteArray();
+    }
+
+    /**
+     * Decodes a private list from a file, which is read into a heap buffer in one go.
+     * <br><br>
+     * The file is deliberately not memory-mapped, because a mapping stays alive until it is garbage collected and would block moving or deleting the
+     * file on Windows.
+     *
+     * @param path The path of the file.
+     * @return Returns the decoded list.
+     * @throws IOException Thrown, when reading failed or the file is no valid list.
+     */
+    public static @NotNull RadarList decode(final @NotNull Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The binary radar list is too large: " + path);
+            }
+
+            final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("The file is no binary radar list: " + path);
+            }
+
+            final short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary radar list version " + version + ": " + path);
+            }
+
+            final String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                final byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            final RadarList list = new RadarList(strings[buffer.getInt()], strings[buffer.getInt()], path.toString(), RadarListVisibility.PRIVATE);
+            final int entryCount = buffer.getInt();
+            // a corrupt entry count must not allocate more than the file can contain
+            final Map<UUID, RadarListEntry> playerMap = new UuidHashMap<>(Math.min(entryCount, buffer.remaining() / ENTRY_BYTES));
+            for (int i = 0; i < entryCount; i++) {
+                final UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+                final String name = strings[buffer.getInt()];
+                final String cause = strings[buffer.getInt()];
+                final LocalDateTime entryCreationDate = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+                final LocalDateTime entryUpdateDate = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+                playerMap.put(uuid, new RadarListEntry(uuid, name, cause, entryCreationDate, entryUpdateDate, buffer.getInt()));
+            }
+            list.setPlayerMap(playerMap);
+            return list;
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException("The binary radar list is truncated or corrupt: " + path, e);
+        }
+    }
+
+    /**
+     * Adds a string to the string table if it is not contained yet.
+     *
+     * @param string The string to add.
+     * @param stringIndexes The indexes of the strings already in the table.
+     * @param strings The string table.
+     * @return Returns the index of the string in the table.
+     */
+    private static int intern(final @NotNull String string, final @NotNull Map<String, Integer> stringIndexes, final @NotNull List<String> strings) {
+        return stringIndexes.computeIfAbsent(string, _ -> {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.UUID;
+
+/**
+ * A class representing a single change of a private list, as it is recorded in the journal of the list.
+ * <br><br>
+ * Every change sets the state of a single key, so replaying changes, which are already contained in a snapshot, does not alter the result.
+ */
+public class RadarListChange {
+    private final Type type;
+    private final RadarListEntry entry;
+    private final UUID uuid;
+    private final String prefix;
+
+    /**
+     * Constructs a {@link RadarListChange}.
+     *
+     * @param type The type of the change.
+     * @param entry The added entry for {@link Type#ADD}.
+     * @param uuid The removed uuid for {@link Type#REMOVE}.
+     * @param prefix The new prefix for {@link Type#PREFIX}.
+     */
+    private RadarListChange(final @NotNull Type type, final @Nullable RadarListEntry entry, final @Nullable UUID uuid, final @Nullable String prefix) {
+        this.type = type;
+        this.entry = entry;
+        this.uuid = uuid;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Creates a change adding an entry.
+     *
+     * @param entry The added entry.
+     * @return Returns the change.
+     */
+    public static @NotNull RadarListChange add(final @NotNull RadarListEntry entry) {
+        return new RadarListChange(Type.ADD, entry, null, null);
+    }
+
+    /**
+     * Creates a change removing an entry.
+     *
+     * @param uuid The player uuid of the removed entry.
+     * @return Returns the change.
+     */
+    public static @NotNull RadarListChange remove(final @NotNull UUID uuid) {
+        return new RadarListChange(Type.REMOVE, null, uuid, null);
+    }
+
+    /**
+     * Creates a change setting the prefix.
+     *
+     * @param prefix The new prefix.
+     * @return Returns the change.
+     */
+    public static @NotNull RadarListChange prefix(final @NotNull String prefix) {
+        return new RadarListChange(Type.PREFIX, null, null, prefix);
+    }
+
+    /**
+     * Applies the change to a list and an unpublished copy of its player map without recording it again.
+     *
+     * @param list The list to apply prefix changes to.
+     * @param playerMap The editor of the unpublished player map to apply entry changes to.
+     */
+    void applyTo(final @NotNull RadarList list, final @NotNull LayeredUuidMap<RadarListEntry>.Editor playerMap) {
+        switch (type) {
+            case ADD -> playerMap.put(entry.uuid(), entry);
+            case REMOVE -> playerMap.remove(uuid);
+            case PREFIX -> list.applyPrefix(prefix);
+        }
+    }
+
+    /**
+     * Gets the type of the change.
+     *
+     * @return Returns the type.
+     */
+    public @NotNull Type type() {
+        return type;
+    }
+
+    /**
+     * Gets the added entry of an {@link Type#ADD} change.
+     *
+     * @return Returns the added entry.
+     */
+    public @Nullable RadarListEntry entry() {
+        return entry;
+    }
+
+    /**
+     * Gets the removed uuid of a {@link Type#REMOVE} change.
+     *
+     * @return Returns the removed uuid.
+     */
+    public @Nullable UUID uuid() {
+        return uuid;
+    }
+
+    /**
+     * Gets the new prefix of a {@link Type#PREFIX} change.
+     *
+     * @return Returns the new prefix.
+     */
+    public @Nullable String prefix() {
+        return prefix;
+    }
+
+    /**
+     * An enum representing the type of change.
+     */
+    public enum Type {
+        /** The change adding an entry. */
+        ADD,
+        /** The change removing an entry. */
+        REMOVE,
+        /** The change setting the prefix. */
+        PREFIX
+    }
+}
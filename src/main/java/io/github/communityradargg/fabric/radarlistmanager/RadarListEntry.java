@@ -51,6 +51,26 @@ public class RadarListEntry {
         this.expiryDays = -1;
     }
 
+    /**
+     * Constructs a {@link RadarListEntry} with all fields.
+     *
+     * @param uuid The player uuid of the entry.
+     * @param name The player name of the entry
+     * @param cause The cause of the entry.
+     * @param entryCreationDate The date when the entry was created the first time.
+     * @param entryUpdateDate The date when the entry was updated the last time.
+     * @param expiryDays The expiry days of the entry.
+     */
+    public RadarListEntry(final @NotNull UUID uuid, final @NotNull String name, final @NotNull String cause, final @NotNull LocalDateTime entryCreationDate,
+                          final @NotNull LocalDateTime entryUpdateDate, final int expiryDays) {
+        this.uuid = uuid;
+        this.name = name;
+        this.cause = cause;
+        this.entryCreationDate = entryCreationDate;
+        this.entryUpdateDate = entryUpdateDate;
+        this.expiryDays = expiryDays;
+    }
+
     /**
      * Gets the player uuid of the entry.
      *
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A class reading a json array of {@link RadarListEntry} objects as a stream.
+ * <br><br>
+ * Every entry is inserted into the resulting map directly after it has been read, so the list is never held twice in memory. Entries with missing
+ * or invalid values are skipped instead of failing the whole list.
+ */
+public class RadarListEntryStreamReader {
+    private static final Logger logger = LogManager.getLogger(RadarListEntryStreamReader.class);
+
+    /**
+     * Reads a json array of entries into a map keyed by the player uuid.
+     *
+     * @param reader The reader to read the json array from.
+     * @param expectedSize The expected amount of entries used to presize the map.
+     * @return Returns the map with the read entries.
+     * @throws IOException Thrown, when reading failed or the json is structurally broken.
+     */
+    public static @NotNull Map<UUID, RadarListEntry> read(final @NotNull Reader reader, final int expectedSize) throws IOException {
+        final Map<UUID, RadarListEntry> playerMap = new UuidHashMap<>(expectedSize);
+        int skippedEntries = 0;
+
+        try (final JsonReader jsonReader = new JsonReader(reader)) {
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                final RadarListEntry entry = readEntry(jsonReader);
+                if (entry == null) {
+                    skippedEntries++;
+                    continue;
+                }
+                playerMap.put(entry.uuid(), entry);
+            }
+            jsonReader.endArray();
+        }
+
+        if (skippedEntries > 0) {
+            logger.warn("Skipped {} malformed list entries", skippedEntries);
+        }
+        return playerMap;
+    }
+
+    /**
+     * Reads a single entry. The values are only converted after the whole object has been read, so a bad value never leaves the reader inside the
+     * object.
+     *
+     * @param jsonReader The json reader positioned in front of the entry.
+     * @return Returns the read entry or {@code null} if it is malformed.
+     * @throws IOException Thrown, when reading failed or the json is structurally broken.
+     */
+    private static @Nullable RadarListEntry readEntry(final @NotNull JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            jsonReader.skipValue();
+            return null;
+        }
+
+        String uuid = null;
+        String name = null;
+        String cause = null;
+        String entryCreatedAt = null;
+        String entryUpdatedAt = null;
+        String expiryDays = null;
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            switch (jsonReader.nextName()) {
+                case "uuid" -> uuid = nextScalar(jsonReader);
+                case "name" -> name = nextScalar(jsonReader);
+                case "cause" -> cause = nextScalar(jsonReader);
+                case "entryCreatedAt" -> entryCreatedAt = nextScalar(jsonReader);
+                case "entryUpdatedAt" -> entryUpdatedAt = nextScalar(jsonReader);
+                case "expiryDays" -> expiryDays = nextScalar(jsonReader);
+                default -> jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+
+        if (uuid == null || name == null || entryCreatedAt == null) {
+            return null;
+        }
+
+        try {
+            final LocalDateTime entryCreationDate = LocalDateTime.parse(entryCreatedAt, DateTimeFormatter.ISO_DATE_TIME);
+            return new RadarListEntry(UUID.fromString(uuid), name, cause == null ? "" : cause, entryCreationDate,
+                    entryUpdatedAt == null ? entryCreationDate : LocalDateTime.parse(entryUpdatedAt, DateTimeFormatter.ISO_DATE_TIME),
+                    expiryDays == null ? -1 : Integer.parseInt(expiryDays));
+        } catch (final IllegalArgumentException | DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the next value as a string if it is a string or number, other values are skipped.
+     *
+     * @param jsonReader The json reader positioned in front of the value.
+     * @return Returns the value as string or {@code null} if it is no scalar value.
+     * @throws IOException Thrown, when reading failed or the json is structurally broken.
+     */
+    private static @Nullable String nextScalar(final @NotNull JsonReader jsonReader) throws IOException {
+        final JsonToken token = jsonReader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return jsonReader.nextString();
+        }
+
+        jsonReader.skipValue();
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * An enum representing the on-disk format of a private list snapshot.
+ */
+public enum RadarListFormat {
+    /** The human-readable json format. */
+    JSON(".json"),
+    /** The compact binary format of the {@link RadarListBinaryCodec}. */
+    BINARY(".crl");
+
+    private final String extension;
+
+    /**
+     * Constructs a {@link RadarListFormat}.
+     *
+     * @param extension The file extension of the format.
+     */
+    RadarListFormat(final @NotNull String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Gets the file extension of the format.
+     *
+     * @return Returns the file extension including the dot.
+     */
+    public @NotNull String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Gets the format of a snapshot file by its extension.
+     *
+     * @param path The path of the snapshot file.
+     * @return Returns an optional with the format.
+     */
+    public static @NotNull Optional<RadarListFormat> fromPath(final @NotNull String path) {
+        for (final RadarListFormat format : values()) {
+            if (path.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets a format by its name.
+     *
+     * @param name The name of the format, case-insensitive.
+     * @return Returns an optional with the format.
+     */
+    public static @NotNull Optional<RadarListFormat> fromName(final @NotNull String name) {
+        for (final RadarListFormat format : values()) {
+            if (format.name().equals(name.toUpperCase(Locale.ENGLISH))) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class representing the resolved entry of a player in the merged uuid index of the {@link RadarListManager}.
+ */
+public class RadarListIndexEntry {
+    private final RadarListEntry entry;
+    private final RadarList list;
+
+    /**
+     * Constructs a {@link RadarListIndexEntry}.
+     *
+     * @param entry The resolved entry of the player.
+     * @param list The list owning the entry.
+     */
+    public RadarListIndexEntry(final @NotNull RadarListEntry entry, final @NotNull RadarList list) {
+        this.entry = entry;
+        this.list = list;
+    }
+
+    /**
+     * Gets the resolved entry of the player.
+     *
+     * @return Returns the resolved entry.
+     */
+    public @NotNull RadarListEntry entry() {
+        return entry;
+    }
+
+    /**
+     * Gets the list owning the entry.
+     *
+     * @return Returns the owning list.
+     */
+    public @NotNull RadarList list() {
+        return list;
+    }
+
+    /**
+     * Gets the prefix of the owning list. The prefix is read from the list, so prefix changes are reflected without re-indexing.
+     *
+     * @return Returns the prefix.
+     */
+    public @NotNull String prefix() {
+        return list.getPrefix();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * A class with the methods to access the append-only change journal of a private list.
+ * <br><br>
+ * The journal is stored next to the snapshot of the list, in any {@link RadarListFormat}, with the extension {@code .journal} and contains one json object per line and change.
+ */
+public class RadarListJournal {
+    private static final Logger logger = LogManager.getLogger(RadarListJournal.class);
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    /**
+     * Gets the path of the journal belonging to a snapshot.
+     *
+     * @param snapshotPath The path of the snapshot.
+     * @return Returns the path of the journal.
+     */
+    public static @NotNull Path getJournalPath(final @NotNull Path snapshotPath) {
+        final String fileName = snapshotPath.getFileName().toString();
+        final String baseName = RadarListFormat.fromPath(fileName)
+                .map(format -> fileName.substring(0, fileName.length() - format.getExtension().length()))
+                .orElse(fileName);
+        return snapshotPath.resolveSibling(baseName + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Appends a batch of changes to a journal and forces them to the disk.
+     *
+     * @param journalPath The path of the journal.
+     * @param changes The changes to append.
+     * @throws IOException Thrown, when writing failed.
+     */
+    public static void append(final @NotNull Path journalPath, final @NotNull List<RadarListChange> changes) throws IOException {
+        final Gson gson = RadarListManager.getCompactGson();
+        final StringBuilder lines = new StringBuilder();
+        for (final RadarListChange change : changes) {
+            final JsonObject json = new JsonObject();
+            json.addProperty("op", change.type().name().toLowerCase(Locale.ENGLISH));
+            switch (change.type()) {
+                case ADD -> json.add("entry", gson.toJsonTree(change.entry()));
+                case REMOVE -> json.addProperty("uuid", String.valueOf(change.uuid()));
+                case PREFIX -> json.addProperty("prefix", change.prefix());
+            }
+            lines.append(gson.toJson(json)).append('\n');
+        }
+
+        try (final FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Replays a journal onto a list loaded from its snapshot. Replaying stops at the first broken or unterminated line, which can only be the torn
+     * tail of an interrupted append. The torn tail is cut off the journal, otherwise the next append would be glued onto it and every change
+     * appended afterward would be lost on the next load.
+     *
+     * @param journalPath The path of the journal.
+     * @param list The list to replay the changes onto.
+     * @return Returns the amount of replayed changes.
+     */
+    public static int replay(final @NotNull Path journalPath, final @NotNull RadarList list) {
+        if (!Files.isRegularFile(journalPath)) {
+            return 0;
+        }
+
+        final Gson gson = RadarListManager.getCompactGson();
+        final List<RadarListChange> changes = new ArrayList<>();
+        final byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(journalPath);
+        } catch (final IOException e) {
+            logger.warn("Could not read the journal '{}'", journalPath, e);
+            return 0;
+        }
+
+        // the offset after the last complete line, everything behind it is a torn tail
+        int validLength = 0;
+        try {
+            int lineEnd;
+            while (validLength < bytes.length && (lineEnd = indexOfLineEnd(bytes, validLength)) >= 0) {
+                final String line = new String(bytes, validLength, lineEnd - validLength, StandardCharsets.UTF_8);
+                if (!line.isBlank()) {
+                    changes.add(parseChange(gson, line));
+                }
+                validLength = lineEnd + 1;
+            }
+        } catch (final JsonParseException | IllegalStateException | IllegalArgumentException e) {
+            logger.warn("Stopped replaying the journal '{}' after {} changes", journalPath, changes.size(), e);
+        }
+
+        if (validLength < bytes.length) {
+            truncate(journalPath, validLength);
+        }
+
+        // applying all changes at once copies the player map only a single time
+        list.applyChanges(changes);
+        return changes.size();
+    }
+
+    /**
+     * Parses a single journal line.
+     *
+     * @param gson The gson instance to parse with.
+     * @param line The journal line.
+     * @return Returns the parsed change.
+     * @throws JsonParseException Thrown, when the line is no valid change.
+     */
+    private static @NotNull RadarListChange parseChange(final @NotNull Gson gson, final @NotNull String line) {
+        final JsonObject json = gson.fromJson(line, JsonObject.class);
+        if (json == null) {
+            throw new JsonParseException("Empty journal line");
+        }
+
+        final String operation = getRequired(json, "op").getAsString();
+        return switch (operation) {
+            case "add" -> RadarListChange.add(gson.fromJson(getRequired(json, "entry"), RadarListEntry.class));
+            case "remove" -> RadarListChange.remove(UUID.fromString(getRequired(json, "uuid").getAsString()));
+            case "prefix" -> RadarListChange.prefix(getRequired(json, "prefix").getAsString());
+            default -> throw new JsonParseException("Unknown journal operation: " + operation);
+        };
+    }
+
+    /**
+     * Gets the index of the next line break.
+     *
+     * @param bytes The bytes of the journal.
+     * @param fromIndex The index to start searching at.
+     * @return Returns the index of the line break or {@code -1} if the rest of the journal is unterminated.
+     */
+    private static int indexOfLineEnd(final byte[] bytes, final int fromIndex) {
+        for (int i = fromIndex; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Cuts off the torn tail of a journal.
+     *
+     * @param journalPath The path of the journal.
+     * @param validLength The length of the journal up to the end of the last complete line.
+     */
+    private static void truncate(final @NotNull Path journalPath, final long validLength) {
+        try (final FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(validLength);
+            channel.force(false);
+            logger.warn("Cut off the torn tail of the journal '{}' at {} bytes", journalPath, validLength);
+        } catch (final IOException e) {
+            logger.error("Could not cut off the torn tail of the journal '{}'", journalPath, e);
+        }
+    }
+
+    /**
+     * Gets a required member of a journal line.
+     *
+     * @param json The journal line.
+     * @param memberName The name of the member.
+     * @return Returns the member.
+     * @throws JsonParseException Thrown, when the member is missing.
+     */
+    private static @NotNull JsonElement getRequired(final @NotNull JsonObject json, final @NotNull String memberName) {
+        final JsonElement element = json.get(memberName);
+        if (element == null || element.isJsonNull()) {
+            throw new JsonParseException("Missing journal member: " + memberName);
+        }
+        return element;
+    }
+
+    /**
+     * Deletes a journal.
+     *
+     * @param journalPath The path of the journal.
+     * @throws IOException Thrown, when deleting failed.
+     */
+    public static void delete(final @NotNull Path journalPath) throws IOException {
+        Files.deleteIfExists(journalPath);
+    }
+}
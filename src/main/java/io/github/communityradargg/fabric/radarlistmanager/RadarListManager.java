@@ -22,30 +22,48 @@ import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 import io.github.communityradargg.fabric.radarlistmanager.adapters.GsonLocalDateTimeAdapter;
 import io.github.communityradargg.fabric.radarlistmanager.adapters.GsonRadarListPlayerMapAdapter;
+import io.github.communityradargg.fabric.utils.IoExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * A class containing the methods to manage lists.
+ * <br><br>
+ * All changes of the lists and the registry go through the synchronized methods of the manager, so there is a single serialized mutation path.
+ * Readers only access published snapshots, which are the copy-on-write registry, the index and the player maps of the lists, and never lock.
  */
 public class RadarListManager {
     private static final Logger logger = LogManager.getLogger(RadarListManager.class);
@@ -54,17 +72,45 @@ public class RadarListManager {
             .registerTypeAdapter(LocalDateTime.class, new GsonLocalDateTimeAdapter())
             .registerTypeAdapter(Map.class, new GsonRadarListPlayerMapAdapter())
             .create();
+    private static final Gson compactGson = new GsonBuilder()
+            .registerTypeAdapter(LocalDateTime.class, new GsonLocalDateTimeAdapter())
+            .registerTypeAdapter(Map.class, new GsonRadarListPlayerMapAdapter())
+            .create();
+    /** The journal length at which a new snapshot of a private list is written. */
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 256;
+    /** The format of newly created private lists, can be changed with the system property {@code communityradar.privateListFormat}. */
+    private static final RadarListFormat DEFAULT_PRIVATE_LIST_FORMAT = RadarListFormat.fromName(System.getProperty("communityradar.privateListFormat", "json"))
+            .orElse(RadarListFormat.JSON);
     private final List<RadarList> lists;
+    /**
+     * The index of all players, which is never modified after being published, so lookups can read it without locking. Its large base is rebuilt
+     * from all lists in the background together with its bloom filter, while single changes of private lists are published as a small
+     * copy-on-write delta on top of the shared base.
+     */
+    private volatile IndexSnapshot index;
+    /** The lock serializing the rebuilds of the index base, so a slower earlier rebuild cannot replace the base of a later one. */
+    private final Object indexRebuildLock;
+    private final AtomicBoolean indexRebuildScheduled;
+    private final AtomicLong generation;
     private final String directoryPath;
+    private final PublicListCache publicListCache;
+    private final RadarListPersister persister;
 
     /**
      * Constructs a {@link RadarListManager}
      *
      * @param directoryPath The directory path of the list the manager manages.
+     * @param cacheDirectoryPath The directory path of the cache for the public lists.
      */
-    public RadarListManager(final @NotNull String directoryPath) {
-        this.lists = new ArrayList<>();
+    public RadarListManager(final @NotNull String directoryPath, final @NotNull String cacheDirectoryPath) {
+        this.lists = new CopyOnWriteArrayList<>();
+        this.index = new IndexSnapshot(new LayeredUuidMap<>(), null);
+        this.indexRebuildLock = new Object();
+        this.indexRebuildScheduled = new AtomicBoolean();
+        this.generation = new AtomicLong();
         this.directoryPath = directoryPath;
+        this.publicListCache = new PublicListCache(cacheDirectoryPath);
+        this.persister = new RadarListPersister(this, Duration.ofSeconds(1));
     }
 
     /**
@@ -74,8 +120,7 @@ public class RadarListManager {
      * @return Returns, whether the uuid is in a list.
      */
     public boolean isInList(final @NotNull UUID uuid) {
-        return lists.stream()
-                .anyMatch(list -> list.isInList(uuid));
+        return lookup(uuid) != null;
     }
 
     /**
@@ -85,11 +130,8 @@ public class RadarListManager {
      * @return Returns the prefix.
      */
     public @NotNull String getPrefix(final @NotNull UUID uuid) {
-        return lists.stream()
-                .filter(list -> list.isInList(uuid))
-                .map(RadarList::getPrefix)
-                .findFirst()
-                .orElse("");
+        final RadarListIndexEntry indexEntry = lookup(uuid);
+        return indexEntry == null ? "" : indexEntry.prefix();
     }
 
     /**
@@ -110,10 +152,90 @@ public class RadarListManager {
      * @return Returns an optional with the found entry.
      */
     public @NotNull Optional<RadarListEntry> getRadarListEntry(final @NotNull UUID uuid) {
-        return lists.stream()
-                .filter(list -> list.isInList(uuid))
-                .findFirst()
-                .flatMap(list -> list.getRadarListEntry(uuid));
+        final RadarListIndexEntry indexEntry = lookup(uuid);
+        return indexEntry == null ? Optional.empty() : Optional.of(indexEntry.entry());
+    }
+
+    /**
+     * Gets the resolved index entry of a given uuid. The entry of the first registered list containing the uuid wins.
+     *
+     * @param uuid The uuid to get the index entry for.
+     * @return Returns the index entry or {@code null} if the uuid is in no list.
+     */
+    public @Nullable RadarListIndexEntry getIndexEntry(final @NotNull UUID uuid) {
+        return lookup(uuid);
+    }
+
+    /**
+     * Looks up the index entry of a given uuid. The delta of the index is checked first, then the bloom filter of the base is asked, so the
+     * common case of a player in no list is answered without probing the base.
+     *
+     * @param uuid The uuid to look up.
+     * @return Returns the index entry or {@code null} if the uuid is in no list.
+     */
+    private @Nullable RadarListIndexEntry lookup(final @NotNull UUID uuid) {
+        return lookup(uuid, index);
+    }
+
+    /**
+     * Looks up the index entry of a given uuid in a given snapshot of the index.
+     *
+     * @param uuid The uuid to look up.
+     * @param currentIndex The snapshot of the index.
+     * @return Returns the index entry or {@code null} if the uuid is in no list.
+     */
+    private static @Nullable RadarListIndexEntry lookup(final @NotNull UUID uuid, final @NotNull IndexSnapshot currentIndex) {
+        return currentIndex.entries().get(uuid, currentIndex.baseFilter());
+    }
+
+    /**
+     * Checks many uuids at once in a single pass over one snapshot of the index, so all hits are consistent with each other.
+     *
+     * @param uuids The uuids to check, duplicates are only reported once.
+     * @return Returns the entries of the found uuids grouped by their list, with the lists in the order of their registration.
+     */
+    public @NotNull Map<RadarList, List<RadarListEntry>> checkAll(final @NotNull Collection<UUID> uuids) {
+        final IndexSnapshot currentIndex = index;
+        final Map<RadarList, List<RadarListEntry>> hits = new HashMap<>();
+        final Set<UUID> checkedUuids = new HashSet<>();
+        for (final UUID uuid : uuids) {
+            if (!checkedUuids.add(uuid)) {
+                continue;
+            }
+
+            final RadarListIndexEntry indexEntry = lookup(uuid, currentIndex);
+            if (indexEntry != null) {
+                hits.computeIfAbsent(indexEntry.list(), _ -> new ArrayList<>()).add(indexEntry.entry());
+            }
+        }
+
+        final Map<RadarList, List<RadarListEntry>> groupedHits = new LinkedHashMap<>();
+        for (final RadarList list : lists) {
+            final List<RadarListEntry> listHits = hits.remove(list);
+            if (listHits != null) {
+                groupedHits.put(list, listHits);
+            }
+        }
+        // lists unregistered after taking the snapshot still own their hits
+        groupedHits.putAll(hits);
+        return groupedHits;
+    }
+
+    /**
+     * Gets the generation of the lists, which changes whenever the index or the prefix of a list changes. Caches of derived values can compare
+     * it to detect that they are outdated.
+     *
+     * @return Returns the current generation.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Marks the lists as changed without changing the index, like after a prefix change.
+     */
+    private void markListsChanged() {
+        generation.incrementAndGet();
     }
 
     /**
@@ -137,7 +259,7 @@ public class RadarListManager {
      * @param cause The cause for the entry.
      * @return Returns, whether the entry was successfully added.
      */
-    public boolean addRadarListEntry(final @NotNull String namespace, final @NotNull UUID uuid, final @NotNull String name, final @NotNull String cause) {
+    public synchronized boolean addRadarListEntry(final @NotNull String namespace, final @NotNull UUID uuid, final @NotNull String name, final @NotNull String cause) {
         if (getRadarListEntry(uuid).isPresent()) {
             return false;
         }
@@ -150,7 +272,9 @@ public class RadarListManager {
             final RadarList list = listOptional.get();
 
             if (list.getRadarListVisibility() == RadarListVisibility.PRIVATE) {
-                list.addRadarListEntry(new RadarListEntry(uuid, name, cause, LocalDateTime.now()));
+                final RadarListEntry entry = new RadarListEntry(uuid, name, cause, LocalDateTime.now());
+                applyChange(list, RadarListChange.add(entry));
+                reindexPlayer(uuid);
                 return true;
             }
         }
@@ -158,20 +282,184 @@ public class RadarListManager {
     }
 
     /**
-     * Saves a radar list to disk if it is a private one.
+     * Removes a player entry from a private list.
+     *
+     * @param namespace The namespace of the list.
+     * @param uuid The player uuid of the entry.
+     * @return Returns, whether the entry was successfully removed.
+     */
+    public synchronized boolean removeRadarListEntry(final @NotNull String namespace, final @NotNull UUID uuid) {
+        final Optional<RadarList> listOptional = getRadarList(namespace);
+        if (listOptional.isEmpty() || listOptional.get().getRadarListVisibility() != RadarListVisibility.PRIVATE || !listOptional.get().isInList(uuid)) {
+            return false;
+        }
+
+        applyChange(listOptional.get(), RadarListChange.remove(uuid));
+        reindexPlayer(uuid);
+        return true;
+    }
+
+    /**
+     * Sets the prefix of a list.
+     *
+     * @param namespace The namespace of the list.
+     * @param prefix The new prefix.
+     * @return Returns, whether the prefix was successfully set.
+     */
+    public synchronized boolean setRadarListPrefix(final @NotNull String namespace, final @NotNull String prefix) {
+        final Optional<RadarList> listOptional = getRadarList(namespace);
+        if (listOptional.isEmpty()) {
+            return false;
+        }
+
+        applyChange(listOptional.get(), RadarListChange.prefix(prefix));
+        markListsChanged();
+        return true;
+    }
+
+    /**
+     * Applies a single change to a list and records it for the journal if the list is private.
+     *
+     * @param list The list to change.
+     * @param change The change.
+     */
+    private synchronized void applyChange(final @NotNull RadarList list, final @NotNull RadarListChange change) {
+        list.applyChanges(List.of(change));
+        recordChange(list, change);
+    }
+
+    /**
+     * Saves a full snapshot of a radar list to disk if it is a private one. The snapshot is written write-behind on a background thread.
      *
      * @param list The list to save.
      */
     public void saveRadarList(final @NotNull RadarList list) {
-        if (list.getRadarListVisibility() != RadarListVisibility.PRIVATE) {
-            return;
+        if (list.getRadarListVisibility() == RadarListVisibility.PRIVATE) {
+            persister.requestSnapshot(list);
+        }
+    }
+
+    /**
+     * Records a change of a private list, which is appended to the journal of the list write-behind on a background thread.
+     *
+     * @param list The changed list.
+     * @param change The change.
+     */
+    public void recordChange(final @NotNull RadarList list, final @NotNull RadarListChange change) {
+        if (list.getRadarListVisibility() == RadarListVisibility.PRIVATE) {
+            persister.recordChange(list, change);
         }
+    }
 
-        try (final FileWriter writer = new FileWriter(directoryPath + list.getNamespace() + ".json")) {
-            writer.write(gson.toJson(list));
+    /**
+     * Persists the changes of a radar list. The changes are appended to the journal and a new snapshot is written if requested or the journal
+     * got too long. This is blocking and only called by the {@link RadarListPersister}.
+     *
+     * @param list The list to persist.
+     * @param changes The changes to append to the journal.
+     * @param snapshotRequested Whether a snapshot should be written regardless of the journal length.
+     * @return Returns the path of the written snapshot or {@code null} if no snapshot was written.
+     */
+    @Nullable Path persistRadarList(final @NotNull RadarList list, final @NotNull List<RadarListChange> changes, final boolean snapshotRequested) {
+        final Path snapshotPath = Paths.get(list.getUrl());
+        boolean writeSnapshot = snapshotRequested;
+        if (!changes.isEmpty()) {
+            try {
+                RadarListJournal.append(RadarListJournal.getJournalPath(snapshotPath), changes);
+                list.setJournalLength(list.getJournalLength() + changes.size());
+            } catch (final IOException e) {
+                logger.error("Could not append to the journal of list '{}', writing a snapshot instead", list.getNamespace(), e);
+                writeSnapshot = true;
+            }
+        }
+
+        if ((writeSnapshot || list.getJournalLength() >= JOURNAL_COMPACTION_THRESHOLD) && writeSnapshot(list, snapshotPath)) {
+            return snapshotPath;
+        }
+        return null;
+    }
+
+    /**
+     * Writes a snapshot of a radar list atomically and removes the journal, which is contained in the snapshot afterward.
+     *
+     * @param list The list to write.
+     * @param snapshotPath The path of the snapshot.
+     * @return Returns, whether the snapshot was written.
+     */
+    private boolean writeSnapshot(final @NotNull RadarList list, final @NotNull Path snapshotPath) {
+        final RadarListFormat format = RadarListFormat.fromPath(snapshotPath.toString()).orElse(RadarListFormat.JSON);
+        final byte[] snapshot;
+        synchronized (list) {
+            snapshot = format == RadarListFormat.BINARY ? RadarListBinaryCodec.encode(list) : compactGson.toJson(list).getBytes(StandardCharsets.UTF_8);
+        }
+
+        final Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (final FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
         } catch (final IOException e) {
             logger.error("Could not save list", e);
+            return false;
+        }
+
+        try {
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            logger.error("Could not save list", e);
+            return false;
+        }
+
+        try {
+            // a crash before deleting only leads to replaying changes already contained in the snapshot
+            RadarListJournal.delete(RadarListJournal.getJournalPath(snapshotPath));
+            list.setJournalLength(0);
+        } catch (final IOException e) {
+            logger.error("Could not delete the journal of list '{}'", list.getNamespace(), e);
+        }
+        return true;
+    }
+
+    /**
+     * Writes all private lists with pending changes in the background.
+     */
+    public void flushPrivateLists() {
+        persister.flush();
+    }
+
+    /**
+     * Writes all private lists with pending changes and stops the background writing. Should be called when the client stops.
+     */
+    public void shutdown() {
+        persister.shutdown();
+    }
+
+    /**
+     * Changes the on-disk format of a private list. The snapshot in the new format is written in the background and the old snapshot is deleted
+     * afterward. This allows exporting binary lists to json and importing json lists into the binary format.
+     *
+     * @param namespace The namespace of the list.
+     * @param format The new format.
+     * @return Returns, whether the format change was scheduled.
+     */
+    public synchronized boolean changeRadarListFormat(final @NotNull String namespace, final @NotNull RadarListFormat format) {
+        final Optional<RadarList> listOptional = getRadarList(namespace);
+        if (listOptional.isEmpty() || listOptional.get().getRadarListVisibility() != RadarListVisibility.PRIVATE) {
+            return false;
+        }
+
+        final RadarList list = listOptional.get();
+        final Path oldSnapshotPath = Paths.get(list.getUrl());
+        if (RadarListFormat.fromPath(oldSnapshotPath.toString()).orElse(RadarListFormat.JSON) == format) {
+            return true;
         }
+
+        // the snapshots of both formats share the journal, which is removed once the new snapshot contains all changes
+        list.setUrl(Paths.get(directoryPath, list.getNamespace() + format.getExtension()).toString());
+        persister.replaceSnapshot(list, oldSnapshotPath);
+        return true;
     }
 
     /**
@@ -181,14 +469,14 @@ public class RadarListManager {
      * @param prefix The prefix of the list.
      * @return Returns, whether the list was successfully registered.
      */
-    public boolean registerPrivateList(final @NotNull String namespace, final @NotNull String prefix) {
+    public synchronized boolean registerPrivateList(final @NotNull String namespace, final @NotNull String prefix) {
         final boolean namespaceExists = getNamespaces().stream()
                 .anyMatch(namespace::equalsIgnoreCase);
         if (namespaceExists) {
             return false;
         }
 
-        lists.add(new RadarList(namespace, prefix, directoryPath + namespace + ".json", RadarListVisibility.PRIVATE));
+        lists.add(new RadarList(namespace, prefix, directoryPath + namespace + DEFAULT_PRIVATE_LIST_FORMAT.getExtension(), RadarListVisibility.PRIVATE));
 
         final Optional<RadarList> listOptional = getRadarList(namespace);
         if (listOptional.isEmpty()) {
@@ -200,33 +488,76 @@ public class RadarListManager {
     }
 
     /**
-     * Registers a public list.
+     * Registers a public list. The list is registered in the loading state at once, then loaded from the cache and revalidated against the
+     * server in the background.
      *
      * @param namespace The namespace of the list.
      * @param prefix The prefix of the list.
      * @return Returns, whether the list was successfully registered.
      */
     @SuppressWarnings("BooleanMethodIsAlwaysInverted") // better understanding of code logic
-    public boolean registerPublicList(final @NotNull String namespace, final @NotNull String prefix, final @NotNull String url) {
+    public synchronized boolean registerPublicList(final @NotNull String namespace, final @NotNull String prefix, final @NotNull String url) {
         final boolean namespaceExists = getNamespaces().stream()
                 .anyMatch(namespace::equalsIgnoreCase);
         if (namespaceExists) {
             return false;
         }
 
-        lists.add(new RadarList(namespace, prefix, url, RadarListVisibility.PUBLIC));
+        final RadarList list = new RadarList(namespace, prefix, url, RadarListVisibility.PUBLIC);
+        lists.add(list);
+        CompletableFuture.runAsync(() -> {
+                    if (list.loadCached(publicListCache)) {
+                        rebuildIndex();
+                    }
+
+                    if (list.refresh(publicListCache)) {
+                        rebuildIndex();
+                    }
+                }, IoExecutor.getExecutor())
+                .exceptionally(throwable -> {
+                    logger.error("Could not load public list '{}'", namespace, throwable);
+                    return null;
+                });
         return true;
     }
 
+    /**
+     * Refreshes all public lists in the background. Changed lists replace their entries at once and the index is rebuilt afterwards.
+     *
+     * @return Returns a CompletableFuture, which completes when all public lists have been refreshed.
+     */
+    public @NotNull CompletableFuture<Void> refreshPublicLists() {
+        return CompletableFuture.allOf(lists.stream()
+                .filter(list -> list.getRadarListVisibility() == RadarListVisibility.PUBLIC)
+                .map(list -> CompletableFuture.runAsync(() -> {
+                            if (list.refresh(publicListCache)) {
+                                rebuildIndex();
+                            }
+                        }, IoExecutor.getExecutor())
+                        .exceptionally(throwable -> {
+                            logger.error("Could not refresh public list '{}'", list.getNamespace(), throwable);
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new));
+    }
+
     /**
      * Adds a radar list if it is not null.
      *
      * @param list The nullable radar list.
      */
-    private void addRadarList(final @Nullable RadarList list) {
-        if (list != null) {
-            lists.add(list);
+    private synchronized void addRadarList(final @Nullable RadarList list) {
+        if (list == null) {
+            return;
         }
+
+        if (getRadarList(list.getNamespace()).isPresent()) {
+            logger.warn("Skipping list file '{}', a list with the namespace '{}' is already registered", list.getUrl(), list.getNamespace());
+            return;
+        }
+
+        lists.add(list);
+        indexList(list);
     }
 
     /**
@@ -235,7 +566,7 @@ public class RadarListManager {
      * @param namespace The namespace of the list.
      * @return Returns, whether the list was successfully unregistered.
      */
-    public boolean unregisterList(final @NotNull String namespace) {
+    public synchronized boolean unregisterList(final @NotNull String namespace) {
         final Optional<RadarList> listOptional = getRadarList(namespace);
         if (listOptional.isEmpty()) {
             return false;
@@ -246,22 +577,165 @@ public class RadarListManager {
             return false;
         }
 
-        final File file = new File(list.getUrl());
-        if (file.exists() && !file.delete()) {
-            return false;
-        }
-
+        // the files are deleted in the background after a write in flight has finished, so it cannot recreate them
+        persister.discard(list);
         lists.remove(list);
+        unindexList(list);
         return true;
     }
 
     /**
-     * Loads the private lists from disk.
+     * Publishes new index entries on top of the current base and schedules rebuilding the base if the delta got too large.
+     *
+     * @param newEntries The new index entries.
+     */
+    private synchronized void publishIndexEntries(final @NotNull LayeredUuidMap<RadarListIndexEntry> newEntries) {
+        index = new IndexSnapshot(newEntries, index.baseFilter());
+        generation.incrementAndGet();
+        if (newEntries.isCompactionDue()) {
+            scheduleIndexRebuild();
+        }
+    }
+
+    /**
+     * Schedules rebuilding the index base in the background unless a rebuild is already scheduled.
+     */
+    private void scheduleIndexRebuild() {
+        if (indexRebuildScheduled.compareAndSet(false, true)) {
+            IoExecutor.execute(() -> {
+                // resetting first, so a change while rebuilding schedules another rebuild
+                indexRebuildScheduled.set(false);
+                rebuildIndex();
+            });
+        }
+    }
+
+    /**
+     * Adds all entries of a list to the index. Already indexed players keep the entry of the list registered first.
+     *
+     * @param list The list to index.
+     */
+    private synchronized void indexList(final @NotNull RadarList list) {
+        resolvePlayers(list.getPlayerMap().keySet());
+    }
+
+    /**
+     * Removes all index entries owned by a list, which is no longer registered, and resolves the affected players again.
+     *
+     * @param list The unregistered list.
+     */
+    private synchronized void unindexList(final @NotNull RadarList list) {
+        final LayeredUuidMap<RadarListIndexEntry> currentEntries = index.entries();
+        resolvePlayers(list.getPlayerMap().keySet().stream()
+                .filter(uuid -> {
+                    final RadarListIndexEntry indexEntry = currentEntries.get(uuid);
+                    return indexEntry != null && indexEntry.list() == list;
+                })
+                .toList());
+    }
+
+    /**
+     * Builds the whole index base from the registered lists and its bloom filter, and swaps both in at once, so lookups never see a partially
+     * built index. This is blocking and should not be called on the client thread. Only the changes of private lists made while building are
+     * kept in the delta afterward.
+     */
+    private void rebuildIndex() {
+        synchronized (indexRebuildLock) {
+            // every private change is applied to its list before the index, so the lists contain at least the changes of this snapshot
+            final LayeredUuidMap<RadarListIndexEntry> startEntries = index.entries();
+            final UuidHashMap<RadarListIndexEntry> newBase = new UuidHashMap<>(startEntries.size());
+            for (final RadarList list : lists) {
+                list.getPlayerMap().forEach((uuid, entry) -> newBase.putIfAbsent(uuid, new RadarListIndexEntry(entry, list)));
+            }
+
+            final UuidBloomFilter baseFilter = UuidBloomFilter.of(newBase);
+            synchronized (this) {
+                index = new IndexSnapshot(index.entries().rebase(newBase, startEntries), baseFilter);
+                generation.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Resolves the index entry of a single player again from the registered lists.
+     *
+     * @param uuid The uuid of the player.
+     */
+    private synchronized void reindexPlayer(final @NotNull UUID uuid) {
+        resolvePlayers(List.of(uuid));
+    }
+
+    /**
+     * Resolves the index entries of players again from the registered lists and publishes them as a single change of the index.
+     *
+     * @param uuids The uuids of the players.
+     */
+    private synchronized void resolvePlayers(final @NotNull Collection<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return;
+        }
+
+        final LayeredUuidMap<RadarListIndexEntry>.Editor editor = index.entries().edit();
+        for (final UUID uuid : uuids) {
+            resolvePlayer(editor, uuid);
+        }
+        publishIndexEntries(editor.build());
+    }
+
+    /**
+     * Resolves the index entry of a single player from the registered lists into a batch of index changes.
+     *
+     * @param editor The editor of the index changes.
+     * @param uuid The uuid of the player.
+     */
+    private void resolvePlayer(final @NotNull LayeredUuidMap<RadarListIndexEntry>.Editor editor, final @NotNull UUID uuid) {
+        for (final RadarList list : lists) {
+            final Optional<RadarListEntry> entryOptional = list.getRadarListEntry(uuid);
+            if (entryOptional.isPresent()) {
+                editor.put(uuid, new RadarListIndexEntry(entryOptional.get(), list));
+                return;
+            }
+        }
+        editor.remove(uuid);
+    }
+
+    /**
+     * Loads the private lists from disk. The files are parsed concurrently on the I/O executor and the lists are added in the order
+     * of their namespaces afterward, so the index precedence does not depend on the order in which the files finished loading.
      */
     public void loadPrivateLists() {
-        getJsonUrls(directoryPath)
-                .forEach(jsonUrl -> loadRadarListFromFile(jsonUrl)
-                        .ifPresent(this::addRadarList));
+        final long startTime = System.nanoTime();
+        final List<CompletableFuture<Optional<RadarList>>> loadingFutures = getListUrls(directoryPath).stream()
+                .map(listUrl -> CompletableFuture.supplyAsync(() -> loadRadarListFromFileTimed(listUrl), IoExecutor.getExecutor())
+                        .exceptionally(throwable -> {
+                            logger.error("Could not load list from file '{}'", listUrl, throwable);
+                            return Optional.empty();
+                        }))
+                .toList();
+
+        final List<RadarList> loadedLists = loadingFutures.stream()
+                .map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .sorted(Comparator.comparing((RadarList list) -> list.getNamespace().toLowerCase(Locale.ENGLISH))
+                        .thenComparing(RadarList::getUrl))
+                .toList();
+        loadedLists.forEach(this::addRadarList);
+        logger.info("Loaded {} of {} private list files in {} ms", loadedLists.size(), loadingFutures.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Loads a radar list from a file and logs the time it took.
+     *
+     * @param filePath The path to the file.
+     * @return Returns an optional with the loaded radar list.
+     */
+    private @NotNull Optional<RadarList> loadRadarListFromFileTimed(final @NotNull String filePath) {
+        final long startTime = System.nanoTime();
+        final Optional<RadarList> listOptional = loadRadarListFromFile(filePath);
+        logger.info("Loaded list file '{}' with {} entries in {} ms", filePath, listOptional.map(list -> list.getPlayerMap().size()).orElse(0),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return listOptional;
     }
 
     /**
@@ -271,10 +745,22 @@ public class RadarListManager {
      * @return Returns an optional with the loaded radar list.
      */
     private @NotNull Optional<RadarList> loadRadarListFromFile(final @NotNull String filePath) {
+        if (RadarListFormat.fromPath(filePath).orElse(RadarListFormat.JSON) == RadarListFormat.BINARY) {
+            try {
+                final RadarList list = RadarListBinaryCodec.decode(Paths.get(filePath));
+                list.setJournalLength(RadarListJournal.replay(RadarListJournal.getJournalPath(Paths.get(filePath)), list));
+                return Optional.of(list);
+            } catch (final IOException e) {
+                logger.error("Could not load list from file", e);
+            }
+            return Optional.empty();
+        }
+
         try (final FileReader reader = new FileReader(filePath)) {
             final RadarList list = gson.fromJson(reader, new TypeToken<RadarList>() {}.getType());
             list.setUrl(filePath);
             if (list.validateList()) {
+                list.setJournalLength(RadarListJournal.replay(RadarListJournal.getJournalPath(Paths.get(filePath)), list));
                 return Optional.of(list);
             }
         } catch (final IOException | IllegalStateException | JsonIOException | JsonSyntaxException e) {
@@ -284,24 +770,57 @@ public class RadarListManager {
     }
 
     /**
-     * Gets the json urls for the directory paths.
+     * Gets the list urls in any {@link RadarListFormat} for the directory paths.
+     * <br><br>
+     * If a list has a snapshot in more than one format, which happens after a crash while changing its format, only the newest snapshot is kept
+     * and the stale ones are deleted.
      *
      * @param directoryPath The directory path.
-     * @return Returns a set with all json urls.
+     * @return Returns a set with all list urls.
      */
-    private @NotNull Set<String> getJsonUrls(final @NotNull String directoryPath) {
+    private @NotNull Set<String> getListUrls(final @NotNull String directoryPath) {
         try (final Stream<Path> paths = Files.walk(Paths.get(directoryPath))) {
-            return paths
-                    .filter(Files::isRegularFile)
+            final Map<Path, Path> snapshotsByJournal = new HashMap<>();
+            // the snapshots of all formats of a list share the same journal path
+            paths.filter(Files::isRegularFile)
+                    .filter(path -> RadarListFormat.fromPath(path.toString()).isPresent())
+                    .forEach(path -> snapshotsByJournal.merge(RadarListJournal.getJournalPath(path), path, this::keepNewerSnapshot));
+            return snapshotsByJournal.values().stream()
                     .map(Path::toString)
-                    .filter(string -> string.endsWith(".json"))
                     .collect(Collectors.toSet());
         } catch (final IOException e) {
-            logger.error("Could not get json urls", e);
+            logger.error("Could not get list urls", e);
         }
         return new HashSet<>();
     }
 
+    /**
+     * Picks the newer of two snapshots of the same list and deletes the other one. Snapshots with the same modification time are ordered by path.
+     *
+     * @param first The first snapshot.
+     * @param second The second snapshot.
+     * @return Returns the newer snapshot.
+     */
+    private @NotNull Path keepNewerSnapshot(final @NotNull Path first, final @NotNull Path second) {
+        Path newer;
+        try {
+            final int comparison = Files.getLastModifiedTime(first).compareTo(Files.getLastModifiedTime(second));
+            newer = comparison > 0 || comparison == 0 && first.compareTo(second) > 0 ? first : second;
+        } catch (final IOException e) {
+            logger.error("Could not compare the snapshots '{}' and '{}'", first, second, e);
+            newer = first.compareTo(second) > 0 ? first : second;
+        }
+
+        final Path stale = newer == first ? second : first;
+        logger.warn("Found snapshots '{}' and '{}' of the same list, deleting the older one", first, second);
+        try {
+            Files.deleteIfExists(stale);
+        } catch (final IOException e) {
+            logger.error("Could not delete the stale snapshot '{}'", stale, e);
+        }
+        return newer;
+    }
+
     /**
      * Gets the {@link Gson} instance with project relevant settings.
      *
@@ -310,4 +829,21 @@ public class RadarListManager {
     public static @NotNull Gson getGson() {
         return gson;
     }
+
+    /**
+     * Gets the {@link Gson} instance with project relevant settings without pretty printing.
+     *
+     * @return Returns the pre-configured compact {@link Gson} instance.
+     */
+    public static @NotNull Gson getCompactGson() {
+        return compactGson;
+    }
+
+    /**
+     * A published snapshot of the index together with the bloom filter of its base.
+     *
+     * @param entries The index entries.
+     * @param baseFilter The bloom filter over the keys of the base of the entries or {@code null} if it was not built yet.
+     */
+    private record IndexSnapshot(@NotNull LayeredUuidMap<RadarListIndexEntry> entries, @Nullable UuidBloomFilter baseFilter) {}
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import io.github.communityradargg.fabric.utils.IoExecutor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A class persisting private lists write-behind on the {@link IoExecutor}.
+ * <br><br>
+ * Changes are queued per list and the list is marked as dirty. All changes of a list within the debounce window are appended to its journal as one
+ * batch, and as all writes hold the write lock, there is at most one write in flight.
+ * <br><br>
+ * Files of discarded lists and snapshots replaced by another format are deleted in the background while holding the write lock as well, so the
+ * client thread never waits for a write in flight.
+ */
+public class RadarListPersister {
+    private static final Logger logger = LogManager.getLogger(RadarListPersister.class);
+    private final RadarListManager listManager;
+    private final long debounceMillis;
+    private final Set<RadarList> dirtyLists = ConcurrentHashMap.newKeySet();
+    private final Set<RadarList> snapshotRequests = ConcurrentHashMap.newKeySet();
+    private final Map<RadarList, Queue<RadarListChange>> pendingChanges = new ConcurrentHashMap<>();
+    private final Map<RadarList, Path> staleSnapshots = new ConcurrentHashMap<>();
+    private final Queue<Path> discardedSnapshots = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean shutdown;
+
+    /**
+     * Constructs a {@link RadarListPersister}.
+     *
+     * @param listManager The list manager, which writes the lists.
+     * @param debounce The time changes are collected before a list is written.
+     */
+    public RadarListPersister(final @NotNull RadarListManager listManager, final @NotNull Duration debounce) {
+        this.listManager = listManager;
+        this.debounceMillis = debounce.toMillis();
+    }
+
+    /**
+     * Queues a change of a list to be appended to its journal.
+     *
+     * @param list The changed list.
+     * @param change The change.
+     */
+    public void recordChange(final @NotNull RadarList list, final @NotNull RadarListChange change) {
+        pendingChanges.computeIfAbsent(list, _ -> new ConcurrentLinkedQueue<>()).add(change);
+        markDirty(list);
+    }
+
+    /**
+     * Requests a full snapshot of a list to be written.
+     *
+     * @param list The list.
+     */
+    public void requestSnapshot(final @NotNull RadarList list) {
+        snapshotRequests.add(list);
+        markDirty(list);
+    }
+
+    /**
+     * Marks a list as dirty and schedules a write after the debounce window if none is pending yet.
+     *
+     * @param list The changed list.
+     */
+    private void markDirty(final @NotNull RadarList list) {
+        if (dirtyLists.add(list) && !shutdown) {
+            IoExecutor.schedule(() -> write(list), debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Requests a snapshot of a list in a new format. The snapshot is written to the current url of the list and the old snapshot is deleted
+     * after the new one was written.
+     *
+     * @param list The list.
+     * @param oldSnapshotPath The path of the snapshot in the old format.
+     */
+    public void replaceSnapshot(final @NotNull RadarList list, final @NotNull Path oldSnapshotPath) {
+        staleSnapshots.put(list, oldSnapshotPath);
+        requestSnapshot(list);
+    }
+
+    /**
+     * Discards pending writes of a list and deletes its files in the background. This does not block, a write of the list in flight finishes
+     * before the files are deleted.
+     *
+     * @param list The list to discard.
+     */
+    public void discard(final @NotNull RadarList list) {
+        dirtyLists.remove(list);
+        snapshotRequests.remove(list);
+        pendingChanges.remove(list);
+        final Path staleSnapshot = staleSnapshots.remove(list);
+        if (staleSnapshot != null) {
+            discardedSnapshots.add(staleSnapshot);
+        }
+
+        discardedSnapshots.add(Paths.get(list.getUrl()));
+        IoExecutor.execute(() -> {
+            writeLock.lock();
+            try {
+                deleteDiscardedSnapshots();
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Writes all dirty lists in the background without waiting for the debounce window.
+     */
+    public void flush() {
+        if (!shutdown) {
+            IoExecutor.execute(this::writeDirtyLists);
+        }
+    }
+
+    /**
+     * Writes all dirty lists and stops scheduling further writes. Waits a limited time for the writes to finish.
+     */
+    public void shutdown() {
+        shutdown = true;
+        try {
+            CompletableFuture.runAsync(this::writeDirtyLists, IoExecutor.getExecutor())
+                    .get(5, TimeUnit.SECONDS);
+        } catch (final ExecutionException | TimeoutException e) {
+            logger.error("Could not write all private lists in time", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes all dirty lists. This is blocking and should not be called on the client thread.
+     */
+    private void writeDirtyLists() {
+        writeLock.lock();
+        try {
+            deleteDiscardedSnapshots();
+        } finally {
+            writeLock.unlock();
+        }
+        List.copyOf(dirtyLists).forEach(this::write);
+    }
+
+    /**
+     * Writes the queued changes of a list if it is still dirty. This is blocking and should not be called on the client thread.
+     *
+     * @param list The list to write.
+     */
+    private void write(final @NotNull RadarList list) {
+        writeLock.lock();
+        try {
+            // a new list with the url of a discarded one must not be deleted after it was written
+            deleteDiscardedSnapshots();
+            if (!dirtyLists.remove(list)) {
+                return;
+            }
+
+            final List<RadarListChange> changes = new ArrayList<>();
+            final Queue<RadarListChange> queue = pendingChanges.get(list);
+            if (queue != null) {
+                RadarListChange change;
+                while ((change = queue.poll()) != null) {
+                    changes.add(change);
+                }
+            }
+            final Path writtenSnapshot = listManager.persistRadarList(list, changes, snapshotRequests.remove(list));
+            final Path staleSnapshot = staleSnapshots.get(list);
+            // a snapshot written to the old path before the format was changed must not delete it
+            if (writtenSnapshot != null && staleSnapshot != null && !writtenSnapshot.equals(staleSnapshot) && staleSnapshots.remove(list, staleSnapshot)) {
+                deleteFile(staleSnapshot);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the snapshots and journals of all discarded lists. The write lock has to be held.
+     */
+    private void deleteDiscardedSnapshots() {
+        Path snapshotPath;
+        while ((snapshotPath = discardedSnapshots.poll()) != null) {
+            deleteFile(snapshotPath);
+            deleteFile(RadarListJournal.getJournalPath(snapshotPath));
+        }
+    }
+
+    /**
+     * Deletes a file if it exists.
+     *
+     * @param path The path of the file.
+     */
+    private static void deleteFile(final @NotNull Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            logger.error("Could not delete file '{}'", path, e);
+        }
+    }
+}
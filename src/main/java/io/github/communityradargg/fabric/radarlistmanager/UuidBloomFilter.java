@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.UUID;
+
+/**
+ * An immutable blocked bloom filter over uuids.
+ * <br><br>
+ * All bits of a key are placed in a single block of 512 bits, so a query reads at most one cache line. The filter can report keys it does not
+ * contain, but never misses a contained key, which makes a negative answer final.
+ */
+public class UuidBloomFilter {
+    private static final int BITS_PER_KEY = 10;
+    private static final int BLOCK_BITS = 512;
+    private static final int WORDS_PER_BLOCK = BLOCK_BITS / Long.SIZE;
+    private static final int HASH_COUNT = 4;
+    private static final int MAXIMUM_BLOCKS = 1 << 24;
+    private final long[] words;
+    private final int blockMask;
+
+    /**
+     * Constructs a {@link UuidBloomFilter} for an expected amount of keys.
+     *
+     * @param expectedKeys The expected amount of keys.
+     */
+    private UuidBloomFilter(final int expectedKeys) {
+        final long blocks = Math.max(1, ((long) expectedKeys * BITS_PER_KEY + BLOCK_BITS - 1) / BLOCK_BITS);
+        int blockCount = 1;
+        while (blockCount < blocks && blockCount < MAXIMUM_BLOCKS) {
+            blockCount <<= 1;
+        }
+        this.words = new long[blockCount * WORDS_PER_BLOCK];
+        this.blockMask = blockCount - 1;
+    }
+
+    /**
+     * Builds a filter containing all keys of a map.
+     *
+     * @param map The map to build the filter for.
+     * @return Returns the built filter.
+     */
+    public static @NotNull UuidBloomFilter of(final @NotNull UuidHashMap<?> map) {
+        final UuidBloomFilter filter = new UuidBloomFilter(map.size());
+        map.forEachKey(filter::add);
+        return filter;
+    }
+
+    /**
+     * Checks, whether a uuid might be contained in the filter.
+     *
+     * @param uuid The uuid to check.
+     * @return Returns {@code false} if the uuid is definitely not contained, otherwise {@code true}.
+     */
+    public boolean mightContain(final @NotNull UUID uuid) {
+        final long hash = mix(uuid.getMostSignificantBits() ^ Long.rotateLeft(uuid.getLeastSignificantBits(), 32));
+        final int blockOffset = ((int) (hash >>> 32) & blockMask) * WORDS_PER_BLOCK;
+        long bitHash = mix(hash);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            final int bit = (int) bitHash & (BLOCK_BITS - 1);
+            if ((words[blockOffset + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+            bitHash >>>= 9;
+        }
+        return true;
+    }
+
+    /**
+     * Adds a key to the filter while it is built.
+     *
+     * @param msb The most significant bits of the key.
+     * @param lsb The least significant bits of the key.
+     */
+    private void add(final long msb, final long lsb) {
+        final long hash = mix(msb ^ Long.rotateLeft(lsb, 32));
+        final int blockOffset = ((int) (hash >>> 32) & blockMask) * WORDS_PER_BLOCK;
+        long bitHash = mix(hash);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            final int bit = (int) bitHash & (BLOCK_BITS - 1);
+            words[blockOffset + (bit >>> 6)] |= 1L << bit;
+            bitHash >>>= 9;
+        }
+    }
+
+    /**
+     * Mixes the bits of a value, so every input bit affects every output bit.
+     *
+     * @param value The value to mix.
+     * @return Returns the mixed value.
+     */
+    private static long mix(final long value) {
+        long hash = value;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * A map keyed by uuids using open addressing with linear probing.
+ * <br><br>
+ * The two halves of every key are stored in parallel {@code long} arrays and the values in a side array, so no {@link UUID} objects or map nodes
+ * are kept per entry and a lookup only touches the arrays. The map does not permit {@code null} values, the iterators do not support removal and
+ * the map is not thread safe.
+ *
+ * @param <V> The type of the values.
+ */
+public class UuidHashMap<V> extends AbstractMap<UUID, V> {
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private Set<Map.Entry<UUID, V>> entrySet;
+
+    /**
+     * Constructs an empty {@link UuidHashMap}.
+     */
+    public UuidHashMap() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty {@link UuidHashMap}, which holds the expected amount of entries without resizing.
+     *
+     * @param expectedSize The expected amount of entries.
+     */
+    public UuidHashMap(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Constructs a {@link UuidHashMap} with the same entries as another one by copying its arrays.
+     *
+     * @param other The map to copy.
+     */
+    public UuidHashMap(final @NotNull UuidHashMap<V> other) {
+        this.mostSignificantBits = other.mostSignificantBits.clone();
+        this.leastSignificantBits = other.leastSignificantBits.clone();
+        this.values = other.values.clone();
+        this.mask = other.mask;
+        this.size = other.size;
+        this.resizeThreshold = other.resizeThreshold;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public @Nullable V get(final @Nullable Object key) {
+        if (!(key instanceof UUID uuid)) {
+            return null;
+        }
+
+        final int slot = findSlot(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    @Override
+    public @Nullable V put(final @NotNull UUID key, final @NotNull V value) {
+        if (value == null) {
+            throw new NullPointerException("The value must not be null");
+        }
+
+        final long msb = key.getMostSignificantBits();
+        final long lsb = key.getLeastSignificantBits();
+        int slot = slotFor(msb, lsb);
+        while (values[slot] != null) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                final V previousValue = valueAt(slot);
+                values[slot] = value;
+                return previousValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        mostSignificantBits[slot] = msb;
+        leastSignificantBits[slot] = lsb;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            resize(values.length * 2);
+        }
+        return null;
+    }
+
+    @Override
+    public @Nullable V remove(final @Nullable Object key) {
+        if (!(key instanceof UUID uuid)) {
+            return null;
+        }
+
+        final int slot = findSlot(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        if (slot < 0) {
+            return null;
+        }
+
+        final V previousValue = valueAt(slot);
+        removeSlot(slot);
+        return previousValue;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public void forEach(final @NotNull BiConsumer<? super UUID, ? super V> action) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null) {
+                action.accept(new UUID(mostSignificantBits[slot], leastSignificantBits[slot]), valueAt(slot));
+            }
+        }
+    }
+
+    /**
+     * Performs an action for the bits of every key without creating {@link UUID} objects.
+     *
+     * @param action The action to perform.
+     */
+    void forEachKey(final @NotNull KeyConsumer action) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null) {
+                action.accept(mostSignificantBits[slot], leastSignificantBits[slot]);
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Set<Map.Entry<UUID, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Gets the value at a slot.
+     *
+     * @param slot The slot.
+     * @return Returns the value at the slot.
+     */
+    @SuppressWarnings("unchecked") // only values of the type V are stored
+    private V valueAt(final int slot) {
+        return (V) values[slot];
+    }
+
+    /**
+     * Finds the slot of a key.
+     *
+     * @param msb The most significant bits of the key.
+     * @param lsb The least significant bits of the key.
+     * @return Returns the slot of the key or {@code -1} if the key is not in the map.
+     */
+    private int findSlot(final long msb, final long lsb) {
+        int slot = slotFor(msb, lsb);
+        while (values[slot] != null) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the preferred slot of a key. Random uuids are already well distributed, but name based uuids are mixed to avoid clustering.
+     *
+     * @param msb The most significant bits of the key.
+     * @param lsb The least significant bits of the key.
+     * @return Returns the preferred slot.
+     */
+    private int slotFor(final long msb, final long lsb) {
+        final long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Removes the entry at a slot and shifts the following entries of the probe sequence back, so no tombstones are needed.
+     *
+     * @param slot The slot to clear.
+     */
+    private void removeSlot(final int slot) {
+        int gap = slot;
+        int current = (slot + 1) & mask;
+        while (values[current] != null) {
+            final int preferredSlot = slotFor(mostSignificantBits[current], leastSignificantBits[current]);
+            // the entry can fill the gap if the gap lies between its preferred slot and its current slot
+            if (((current - preferredSlot) & mask) >= ((current - gap) & mask)) {
+                mostSignificantBits[gap] = mostSignificantBits[current];
+                leastSignificantBits[gap] = leastSignificantBits[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        values[gap] = null;
+        size--;
+    }
+
+    /**
+     * Moves all entries into arrays with a new capacity.
+     *
+     * @param capacity The new capacity, which must be a power of two.
+     */
+    private void resize(final int capacity) {
+        final long[] oldMostSignificantBits = mostSignificantBits;
+        final long[] oldLeastSignificantBits = leastSignificantBits;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int oldSlot = 0; oldSlot < oldValues.length; oldSlot++) {
+            if (oldValues[oldSlot] == null) {
+                continue;
+            }
+
+            int slot = slotFor(oldMostSignificantBits[oldSlot], oldLeastSignificantBits[oldSlot]);
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            mostSignificantBits[slot] = oldMostSignificantBits[oldSlot];
+            leastSignificantBits[slot] = oldLeastSignificantBits[oldSlot];
+            values[slot] = oldValues[oldSlot];
+        }
+    }
+
+    /**
+     * Allocates empty arrays with a given capacity.
+     *
+     * @param capacity The capacity, which must be a power of two.
+     */
+    private void allocate(final int capacity) {
+        this.mostSignificantBits = new long[capacity];
+        this.leastSignificantBits = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Gets the capacity needed to hold an amount of entries without resizing.
+     *
+     * @param expectedSize The expected amount of entries.
+     * @return Returns the capacity, which is a power of two.
+     */
+    private static int capacityFor(final int expectedSize) {
+        final long minimumCapacity = Math.max(MINIMUM_CAPACITY, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1);
+        if (minimumCapacity > 1 << 30) {
+            return 1 << 30;
+        }
+        return Integer.highestOneBit((int) minimumCapacity - 1) << 1;
+    }
+
+    /**
+     * A consumer of the bits of a uuid key.
+     */
+    @FunctionalInterface
+    interface KeyConsumer {
+        /**
+         * Consumes the bits of a key.
+         *
+         * @param msb The most significant bits of the key.
+         * @param lsb The least significant bits of the key.
+         */
+        void accept(long msb, long lsb);
+    }
+
+    /**
+     * The entry set view of the map. The entries are created on iteration.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<UUID, V>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final @Nullable Object object) {
+            if (!(object instanceof Map.Entry<?, ?> entry)) {
+                return false;
+            }
+
+            final V value = get(entry.getKey());
+            return value != null && value.equals(entry.getValue());
+        }
+
+        @Override
+        public @NotNull Iterator<Map.Entry<UUID, V>> iterator() {
+            return new Iterator<>() {
+                private int nextSlot = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return nextSlot < values.length;
+                }
+
+                @Override
+                public Map.Entry<UUID, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    final int slot = nextSlot;
+                    nextSlot = advance(slot + 1);
+                    return new AbstractMap.SimpleImmutableEntry<>(new UUID(mostSignificantBits[slot], leastSignificantBits[slot]), valueAt(slot));
+                }
+
+                /**
+                 * Gets the next occupied slot.
+                 *
+                 * @param slot The slot to start searching at.
+                 * @return Returns the next occupied slot or the capacity if there is none.
+                 */
+                private int advance(final int slot) {
+                    int current = slot;
+                    while (current < values.length && values[current] == null) {
+                        current++;
+                    }
+                    return current;
+                }
+            };
+        }
+    }
+}
@@ -23,8 +23,8 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import io.github.communityradargg.fabric.radarlistmanager.RadarListEntry;
+import io.github.communityradargg.fabric.radarlistmanager.UuidHashMap;
 import java.lang.reflect.Type;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -35,7 +35,7 @@ public class GsonRadarListPlayerMapAdapter implements JsonSerializer<Map<UUID, R
     @Override
     public Map<UUID, RadarListEntry> deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
         final JsonArray playerMapJsonArray = json.getAsJsonArray();
-        final Map<UUID, RadarListEntry> playerMap = new HashMap<>();
+        final Map<UUID, RadarListEntry> playerMap = new UuidHashMap<>(playerMapJsonArray.size());
 
         playerMapJsonArray.forEach(jsonElement -> {
             final RadarListEntry entry = context.deserialize(jsonElement, RadarListEntry.class);
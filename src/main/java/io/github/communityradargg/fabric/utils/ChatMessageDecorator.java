@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import io.github.communityradargg.fabric.CommunityRadarMod;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListIndexEntry;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import org.jetbrains.annotations.NotNull;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A class containing the non-blocking decoration of chat messages with the radar prefix.
+ * <br><br>
+ * The sender is only resolved synchronously from local sources. If that is not possible, the message is shown with an empty prefix slot, which
+ * gets filled by the {@link ClientThreadQueue} once the asynchronous resolution has finished.
+ */
+public class ChatMessageDecorator {
+    private static final AtomicBoolean chatRefreshScheduled = new AtomicBoolean();
+
+    /**
+     * Decorates a chat message with the radar prefix of its sender without blocking.
+     *
+     * @param contents The original chat message content component.
+     * @return Returns the decorated component, the original component or a component with a pending prefix slot.
+     */
+    public static @NotNull Component decorate(final @NotNull Component contents) {
+        final Optional<String> playerNameOptional = Utils.getChatMessagePlayerName(contents);
+        if (playerNameOptional.isEmpty()) {
+            return contents;
+        }
+
+        final String playerName = playerNameOptional.get();
+        final Optional<UUID> playerUuid = Utils.getLocalUUID(playerName);
+        if (playerUuid.isPresent()) {
+            return Utils.includePrefixComponent(playerUuid.get(), contents);
+        }
+
+        if (playerName.startsWith("!")) {
+            // bedrock players can only be resolved from the world
+            return contents;
+        }
+
+        final MutableComponent prefixSlot = Component.empty();
+        Utils.getUUID(playerName).thenAccept(uuidOptional -> uuidOptional
+                .ifPresent(uuid -> ClientThreadQueue.submit(() -> fillPrefixSlot(prefixSlot, uuid))));
+        return Component.empty().append(prefixSlot).append(contents);
+    }
+
+    /**
+     * Fills the prefix slot of an already displayed chat message. Needs to be called on the client thread.
+     *
+     * @param prefixSlot The prefix slot of the message.
+     * @param playerUuid The resolved uuid of the sender.
+     */
+    private static void fillPrefixSlot(final @NotNull MutableComponent prefixSlot, final @NotNull UUID playerUuid) {
+        final RadarListIndexEntry indexEntry = CommunityRadarMod.getListManager().getIndexEntry(playerUuid);
+        if (indexEntry == null || indexEntry.prefix().isEmpty()) {
+            return;
+        }
+
+        prefixSlot.append(indexEntry.list().getPrefixComponent());
+        if (chatRefreshScheduled.compareAndSet(false, true)) {
+            // all slots filled in the same tick share one refresh of the already split chat lines
+            ClientThreadQueue.submit(() -> {
+                chatRefreshScheduled.set(false);
+                Minecraft.getInstance().gui.getChat().rescaleChat();
+            });
+        }
+    }
+}
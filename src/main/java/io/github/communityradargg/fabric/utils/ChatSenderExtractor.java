@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.FormattedText;
+import org.jetbrains.annotations.NotNull;
+import java.util.Optional;
+
+/**
+ * A class extracting the sender of a GrieferGames chat message in the form {@code Rank ┃ Name} without regular expressions.
+ * <br><br>
+ * The text segments of a message are collected into a reused buffer instead of flattening the component into a new string, and messages without
+ * the separator are rejected directly after collecting. The scan finds the same sender as the pattern {@code [A-Za-z\-+]+\s┃\s(~?!?\w{1,16})}.
+ */
+public class ChatSenderExtractor {
+    private static final char SEPARATOR = '\u2503';
+    private static final int MAX_NAME_LENGTH = 16;
+    private static final ThreadLocal<TextCollector> textCollector = ThreadLocal.withInitial(TextCollector::new);
+
+    /**
+     * Extracts the sender name of a chat message component.
+     *
+     * @param message The chat message component.
+     * @return Returns an optional with the sender name, it will be empty for nicked players.
+     */
+    public static @NotNull Optional<String> extract(final @NotNull Component message) {
+        final TextCollector collector = textCollector.get();
+        collector.reset();
+        message.visit(collector);
+        if (!collector.containsSeparator) {
+            return Optional.empty();
+        }
+        return extract(collector.text);
+    }
+
+    /**
+     * Extracts the sender name of a plain chat message.
+     *
+     * @param message The plain chat message.
+     * @return Returns an optional with the sender name, it will be empty for nicked players.
+     */
+    public static @NotNull Optional<String> extract(final @NotNull CharSequence message) {
+        final int length = message.length();
+        for (int separatorIndex = 2; separatorIndex < length - 2; separatorIndex++) {
+            if (message.charAt(separatorIndex) != SEPARATOR
+                    || !isWhitespace(message.charAt(separatorIndex - 1)) || !isRankChar(message.charAt(separatorIndex - 2))
+                    || !isWhitespace(message.charAt(separatorIndex + 1))) {
+                continue;
+            }
+
+            final int nameStart = separatorIndex + 2;
+            int wordStart = nameStart;
+            if (message.charAt(wordStart) == '~') {
+                wordStart++;
+            }
+            if (wordStart < length && message.charAt(wordStart) == '!') {
+                wordStart++;
+            }
+
+            int nameEnd = wordStart;
+            while (nameEnd < length && nameEnd - wordStart < MAX_NAME_LENGTH && isWordChar(message.charAt(nameEnd))) {
+                nameEnd++;
+            }
+
+            if (nameEnd == wordStart) {
+                continue;
+            }
+
+            if (message.charAt(nameStart) == '~') {
+                // nicked player
+                return Optional.empty();
+            }
+            return Optional.of(message.subSequence(nameStart, nameEnd).toString());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks, whether a char can be part of a rank in front of the separator.
+     *
+     * @param c The char to check.
+     * @return Returns, whether the char can be part of a rank.
+     */
+    private static boolean isRankChar(final char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-' || c == '+';
+    }
+
+    /**
+     * Checks, whether a char can be part of a player name.
+     *
+     * @param c The char to check.
+     * @return Returns, whether the char can be part of a player name.
+     */
+    private static boolean isWordChar(final char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Checks, whether a char is a whitespace in the sense of regular expressions.
+     *
+     * @param c The char to check.
+     * @return Returns, whether the char is a whitespace.
+     */
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * A reusable consumer collecting the text segments of a component.
+     */
+    private static final class TextCollector implements FormattedText.ContentConsumer<Object> {
+        private final StringBuilder text = new StringBuilder(256);
+        private boolean containsSeparator;
+
+        /**
+         * Clears the collected text.
+         */
+        private void reset() {
+            text.setLength(0);
+            containsSeparator = false;
+        }
+
+        @Override
+        public @NotNull Optional<Object> accept(final @NotNull String segment) {
+            if (!containsSeparator && segment.indexOf(SEPARATOR) >= 0) {
+                containsSeparator = true;
+            }
+            text.append(segment);
+            return Optional.empty();
+        }
+    }
+}
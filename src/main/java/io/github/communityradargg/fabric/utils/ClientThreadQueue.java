@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * A class handing results of asynchronous work over to the client thread.
+ * <br><br>
+ * Tasks can be submitted from any thread and are run together on the client thread once at the end of every client tick, so all results of a tick
+ * are delivered in the same frame and game state is only touched from the client thread.
+ */
+public class ClientThreadQueue {
+    private static final Logger logger = LogManager.getLogger(ClientThreadQueue.class);
+    /** The maximum amount of tasks run per tick, so a flood of results cannot stall a single frame. */
+    private static final int MAX_TASKS_PER_TICK = 256;
+    private static final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private static final Executor executor = ClientThreadQueue::submit;
+
+    /**
+     * Gets an executor submitting its tasks to the queue, for example for the async methods of {@link java.util.concurrent.CompletableFuture}.
+     *
+     * @return Returns the executor.
+     */
+    public static @NotNull Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Submits a task to be run on the client thread at the end of the current tick.
+     *
+     * @param task The task to run.
+     */
+    public static void submit(final @NotNull Runnable task) {
+        tasks.add(task);
+    }
+
+    /**
+     * Runs the submitted tasks. Tasks submitted while running are run as well, up to the maximum amount of tasks per tick. Needs to be called on the
+     * client thread.
+     */
+    public static void drain() {
+        Runnable task;
+        int ranTasks = 0;
+        while (ranTasks < MAX_TASKS_PER_TICK && (task = tasks.poll()) != null) {
+            ranTasks++;
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                logger.error("Could not run a task on the client thread", e);
+            }
+        }
+    }
+}
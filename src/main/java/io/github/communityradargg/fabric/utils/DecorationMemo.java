@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A memorized decoration of a name tag with a radar prefix.
+ *
+ * @param source The sources of the original name tag.
+ * @param generation The list generation the decoration was derived for.
+ * @param decoratedComponent The decorated component.
+ */
+public record DecorationMemo(@NotNull NameTagSource source, long generation, @NotNull Component decoratedComponent) {
+    /**
+     * Checks, whether the memo is still valid for the sources of a name tag and a list generation. Only identities and the scoreboard name are
+     * compared, the name tag component itself is not, as vanilla builds a new one every frame.
+     *
+     * @param currentSource The sources of the name tag to decorate.
+     * @param currentGeneration The current list generation.
+     * @return Returns, whether the decorated component of the memo can be used.
+     */
+    public boolean matches(final @NotNull NameTagSource currentSource, final long currentGeneration) {
+        return generation == currentGeneration && source.isSameAs(currentSource);
+    }
+}
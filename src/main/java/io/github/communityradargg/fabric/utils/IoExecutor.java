@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A class owning the executor for all blocking I/O of the mod, like list downloads, file reads and writes and Mojang API lookups.
+ * <br><br>
+ * Every task runs on its own named virtual thread, so blocking I/O never occupies the worker pools of the game or the common pool. The amount of
+ * tasks running at the same time is bounded, further tasks wait for a permit on their virtual thread.
+ */
+public class IoExecutor {
+    private static final Logger logger = LogManager.getLogger(IoExecutor.class);
+    private static final int MAX_CONCURRENT_TASKS = 8;
+    private static final ExecutorService virtualThreadExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+            .name("CommunityRadar IO #", 1)
+            .factory());
+    private static final Semaphore permits = new Semaphore(MAX_CONCURRENT_TASKS);
+    private static final Executor boundedExecutor = IoExecutor::execute;
+
+    /**
+     * Gets the bounded executor for blocking I/O tasks of the mod.
+     *
+     * @return Returns the bounded executor.
+     */
+    public static @NotNull Executor getExecutor() {
+        return boundedExecutor;
+    }
+
+    /**
+     * Gets the unbounded virtual thread executor for http clients. Their internal tasks must not wait for permits held by tasks, which are
+     * waiting for a response.
+     *
+     * @return Returns the unbounded virtual thread executor.
+     */
+    public static @NotNull Executor getHttpClientExecutor() {
+        return virtualThreadExecutor;
+    }
+
+    /**
+     * Executes a blocking I/O task once a permit is available.
+     *
+     * @param task The task to execute.
+     * @throws RejectedExecutionException Thrown, when the executor has been shut down.
+     */
+    public static void execute(final @NotNull Runnable task) {
+        virtualThreadExecutor.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Executes a blocking I/O task after a delay. Tasks becoming due after the shutdown are dropped.
+     *
+     * @param task The task to execute.
+     * @param delay The delay.
+     * @param unit The time unit of the delay.
+     */
+    public static void schedule(final @NotNull Runnable task, final long delay, final @NotNull TimeUnit unit) {
+        // the timer thread of the JDK only hands the task over, a rejection after the shutdown is discarded there
+        CompletableFuture.delayedExecutor(delay, unit, boundedExecutor).execute(task);
+    }
+
+    /**
+     * Checks, whether the executor has been shut down.
+     *
+     * @return Returns, whether the executor has been shut down.
+     */
+    public static boolean isShutdown() {
+        return virtualThreadExecutor.isShutdown();
+    }
+
+    /**
+     * Stops accepting new tasks and waits a limited time for the running tasks to finish. Should be called when the client stops.
+     */
+    public static void shutdown() {
+        virtualThreadExecutor.shutdown();
+        try {
+            if (!virtualThreadExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.error("Could not finish all I/O tasks in time");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
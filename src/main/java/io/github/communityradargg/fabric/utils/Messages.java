@@ -29,11 +29,13 @@ public class Messages {
                     §e/radar list add <Liste> <Präfix> §7-> Erstellt eine neue Liste.
                     §e/radar list prefix <Liste> <Präfix> §7-> Ändert den Präfix einer Liste.
                     §e/radar list delete <Liste> §7-> Löscht eine Liste.
-                    §e/radar list show <Liste> §7-> Zeigt alle Spieler eine Liste an.
+                    §e/radar list show <Liste> [Seite] §7-> Zeigt die Spieler einer Liste seitenweise an.
+                    §e/radar list format <Liste> <json|binary> §7-> Ändert das Speicherformat einer privaten Liste.
                     §e/radar check <Name> §7-> Prüft ob sich ein Spieler auf einer Liste befindet.
-                    §e/radar check "*" §7-> Prüft ob sich einer der Spieler in der Welt auf einer Liste befindet.
+                    §e/radar check "*" [Seite] §7-> Prüft ob sich einer der Spieler in der Welt auf einer Liste befindet.
                     §e/radar player add <Liste> <Name> <Anmerkungen...> §7-> Fügt einen Spieler zu einer Liste hinzu.
                     §e/radar player remove <Liste> <Name> §7-> Entfernt einen Spieler von einer Liste.
+                    §e/radar debug cache §7-> Zeigt Statistiken des Namens-Caches an.
                     §e/radar help §7-> Zeigt diese Hilfeübersicht an.
                     §eEntwickler §7-> MrMystery, BlockyTheDev
                     §eVersion §7-> §e{code_version}
@@ -62,12 +64,20 @@ public class Messages {
         public static final String DELETE_SUCCESS = "§7Diese Liste wurde§c gelöscht§7!";
         public static final String DELETE_FAILED = "§cFehler beim Löschen der Liste. Ist der Name korrekt und handelt es sich um eine private Liste?";
 
-        public static final String SHOW_SUCCESS = "§7Liste: §e{list}§7, Präfix: §e{prefix}§7, Spieler: §e{players}";
+        public static final String SHOW_SUCCESS = "§7Liste: §e{list}§7, Präfix: §e{prefix}§7, Spieler (§e{count}§7): ";
+        public static final String SHOW_ENTRY = "§e{name}§7, ";
+        public static final String SHOW_ENTRY_LAST = "§e{name}";
+        public static final String SHOW_ENTRY_HOVER = "§7Grund: §e{cause}\n§7Letzte Aktualisierung: §e{entryUpdateDate}\n\n§7Klicke, um den Spieler zu prüfen.";
         public static final String SHOW_FAILED = "§cFehler beim Anzeigen der Liste. Ist der Name korrekt?";
         public static final String SHOW_EMPTY = "§7Es befindet sich kein Spieler auf dieser Liste.";
+        public static final String SHOW_LOADING = "§7Diese Liste wird noch geladen. Versuche es in einigen Augenblicken erneut.";
 
         public static final String PREFIX_SUCCESS = "§7Der Präfix wurde zu §e{prefix} §7geändert.";
         public static final String PREFIX_FAILED = "§cFehler beim Ändern des Präfixes.";
+
+        public static final String FORMAT_SUCCESS = "§7Die Liste wird nun im Format §e{format} §7gespeichert.";
+        public static final String FORMAT_FAILED = "§cFehler beim Ändern des Formats. Ist der Name korrekt und handelt es sich um eine private Liste?";
+        public static final String FORMAT_INVALID = "§cUnbekanntes Format. Verfügbare Formate: §ejson§c, §ebinary";
     }
 
     /**
@@ -75,8 +85,12 @@ public class Messages {
      */
     public static class Check {
         public static final String EVERYONE = "§7Online Spieler in einer Liste:";
+        public static final String SUMMARY_ENTRY = "§7- {prefix} §7({list}): §e{count}";
+        public static final String EVERYONE_ENTRY = "{prefix} §e{name}";
+        public static final String EVERYONE_ENTRY_HOVER = "§7Klicke, um den Spieler zu prüfen.";
         public static final String NOT_FOUND = "§cEs ist kein Spieler online, welcher in einer Liste eingetragen ist.";
         public static final String FAILED = "§7Der angegebene Spieler wurde auf§c keiner §7Liste gefunden.";
+        public static final String PAGE_NOT_ALLOWED = "§cEine Seite kann nur beim Prüfen aller Spieler mit '/radar check \"*\" [Seite]' angegeben werden.";
 
         public static final String FOUND = "§7Der Spieler wurde in einer Liste gefunden:";
         public static final String CHECK_ENTRY = """
@@ -87,6 +101,18 @@ public class Messages {
                         §7Letzte Aktualisierung: §e{entryUpdateDate}""";
     }
 
+    /**
+     * Translations related to paginated output.
+     */
+    public static class Pagination {
+        public static final String PAGE = "§7Seite §e{page} §7von §e{pages}";
+        public static final String PREVIOUS_PAGE = " §e[« Zurück]";
+        public static final String PREVIOUS_PAGE_HOVER = "§7Klicke, um die vorherige Seite anzuzeigen.";
+        public static final String NEXT_PAGE = " §e[Weiter »]";
+        public static final String NEXT_PAGE_HOVER = "§7Klicke, um die nächste Seite anzuzeigen.";
+        public static final String PAGE_INVALID = "§cDiese Seite existiert nicht. Es gibt §e{pages} §cSeite(n).";
+    }
+
     /**
      * Translations related to the player command.
      */
@@ -102,4 +128,11 @@ public class Messages {
         public static final String REMOVE_FAILED = "§cDer Spieler konnte nicht entfernt werden. Hast du eine private Liste verwendet?";
         public static final String REMOVE_NOT_IN_LIST = "§7Der Spieler befindet sich auf§c keiner Liste§7.";
     }
+
+    /**
+     * Translations related to the debug command.
+     */
+    public static class Debug {
+        public static final String CACHE = "§7Namens-Cache: §e{size}§7/§e{maxSize} §7Einträge, Treffer: §e{hits}§7, Fehlschläge: §e{misses}§7, Verdrängungen: §e{evictions}";
+    }
 }
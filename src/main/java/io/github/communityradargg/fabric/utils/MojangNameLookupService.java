@@ -0,0 +1,325 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * A service resolving player names to uuids with the bulk profile endpoint of the Mojang API.
+ * <br><br>
+ * Concurrent lookups of the same name share one future. Pending names are collected for a short time and sent in batches of up to
+ * {@value #MAX_BATCH_SIZE} names per request. Requests are limited by a token bucket and pause with a backoff when the API answers with status code 429.
+ * Names, which were rate limited more than {@value #MAX_RATE_LIMITED_RETRIES} times, are given up and their lookups complete empty. At most one
+ * flush is scheduled at any time, scheduling an earlier one replaces it.
+ */
+public class MojangNameLookupService {
+    private static final Logger logger = LogManager.getLogger(MojangNameLookupService.class);
+    /** The default bulk profile endpoint of the Mojang API. */
+    public static final String MOJANG_API_BULK_NAME_TO_UUID = "https://api.minecraftservices.com/minecraft/profile/lookup/bulk/byname";
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final Duration BATCH_DELAY = Duration.ofMillis(50);
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(60);
+    private static final int MAX_RATE_LIMITED_RETRIES = 5;
+    private static final Pattern VALID_PLAYER_NAME = Pattern.compile("\\w{1,16}");
+    private static final Pattern UUID_MOJANG_API_PATTERN = Pattern.compile("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})");
+    private final Gson gson = new Gson();
+    private final HttpClient httpClient;
+    private final URI bulkUri;
+    private final String userAgent;
+    private final UuidNameCache cache;
+    private final TokenBucket rateLimiter;
+    private final Map<String, CompletableFuture<Optional<UUID>>> inFlight = new HashMap<>();
+    private final Deque<String> pending = new ArrayDeque<>();
+    private final Map<String, Integer> rateLimitedRetries = new HashMap<>();
+    private boolean flushScheduled;
+    private long flushDeadline;
+    private long flushToken;
+    private long backoffNanos;
+    private long backoffUntil;
+
+    /**
+     * Constructs a {@link MojangNameLookupService}.
+     *
+     * @param httpClient The http client to send the requests with.
+     * @param bulkUri The uri of the bulk profile endpoint.
+     * @param userAgent The user agent to send the requests with.
+     * @param cache The cache to store the lookup results in.
+     * @param rateLimiter The rate limiter for the requests.
+     */
+    public MojangNameLookupService(final @NotNull HttpClient httpClient, final @NotNull URI bulkUri, final @NotNull String userAgent, final @NotNull UuidNameCache cache,
+                                   final @NotNull TokenBucket rateLimiter) {
+        this.httpClient = httpClient;
+        this.bulkUri = bulkUri;
+        this.userAgent = userAgent;
+        this.cache = cache;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Looks up the uuid of a player name. A lookup for a name, which is already in flight, returns the existing future.
+     *
+     * @param playerName The player name to get the uuid for.
+     * @return Returns a CompletableFuture with an optional with the requested uuid, it will be empty if the name is unknown or an error occurred.
+     */
+    public synchronized @NotNull CompletableFuture<Optional<UUID>> lookup(final @NotNull String playerName) {
+        if (!VALID_PLAYER_NAME.matcher(playerName).matches()) {
+            // the bulk endpoint rejects the whole batch for invalid names
+            cache.putNotFound(playerName);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        final String key = playerName.toLowerCase(Locale.ENGLISH);
+        final CompletableFuture<Optional<UUID>> existingFuture = inFlight.get(key);
+        if (existingFuture != null) {
+            return existingFuture;
+        }
+
+        final CompletableFuture<Optional<UUID>> future = new CompletableFuture<>();
+        inFlight.put(key, future);
+        pending.addLast(key);
+        scheduleFlush(pending.size() >= MAX_BATCH_SIZE ? 0 : BATCH_DELAY.toNanos());
+        return future;
+    }
+
+    /**
+     * Schedules sending the pending names unless a flush is already scheduled to run earlier. A later scheduled flush is replaced, so there
+     * is only a single chain of flushes.
+     *
+     * @param delayNanos The delay in nanoseconds.
+     */
+    private synchronized void scheduleFlush(final long delayNanos) {
+        final long deadline = System.nanoTime() + delayNanos;
+        if (flushScheduled && deadline - flushDeadline >= 0) {
+            return;
+        }
+
+        flushScheduled = true;
+        flushDeadline = deadline;
+        final long token = ++flushToken;
+        IoExecutor.schedule(() -> flush(token), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sends the next batch of pending names if the rate limit allows it.
+     *
+     * @param token The token of the scheduled flush, a replaced flush does nothing.
+     */
+    private void flush(final long token) {
+        final List<String> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        synchronized (this) {
+            if (token != flushToken) {
+                return;
+            }
+
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            final long remainingBackoff = backoffUntil - System.nanoTime();
+            if (remainingBackoff > 0) {
+                scheduleFlush(remainingBackoff);
+                return;
+            }
+
+            final long waitNanos = rateLimiter.tryAcquire();
+            if (waitNanos > 0) {
+                scheduleFlush(waitNanos);
+                return;
+            }
+
+            while (batch.size() < MAX_BATCH_SIZE && !pending.isEmpty()) {
+                batch.add(pending.pollFirst());
+            }
+
+            if (!pending.isEmpty()) {
+                scheduleFlush(0);
+            }
+        }
+        send(batch);
+    }
+
+    /**
+     * Sends a batch of names to the bulk profile endpoint.
+     *
+     * @param batch The lower case names to send.
+     */
+    private void send(final @NotNull List<String> batch) {
+        final HttpRequest httpRequest = HttpRequest.newBuilder()
+                .uri(bulkUri)
+                .timeout(Duration.ofSeconds(3))
+                .header("User-Agent", userAgent)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(batch)))
+                .build();
+
+        httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        logger.error("Trying to request data from '{}' resulted in an exception", bulkUri, throwable);
+                        completeBatch(batch, Map.of(), false);
+                        return;
+                    }
+                    handleResponse(batch, response);
+                });
+    }
+
+    /**
+     * Handles the response of a bulk request.
+     *
+     * @param batch The lower case names of the request.
+     * @param response The response.
+     */
+    private void handleResponse(final @NotNull List<String> batch, final @NotNull HttpResponse<String> response) {
+        if (response.statusCode() == 429) {
+            final long backoff = nextBackoffNanos(response.headers().firstValue("Retry-After").orElse(null));
+            logger.warn("Requesting data from '{}' was rate limited, retrying in {} ms", bulkUri, TimeUnit.NANOSECONDS.toMillis(backoff));
+            final List<String> givenUpNames = new ArrayList<>();
+            synchronized (this) {
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    final String name = batch.get(i);
+                    if (rateLimitedRetries.merge(name, 1, Integer::sum) > MAX_RATE_LIMITED_RETRIES) {
+                        givenUpNames.add(name);
+                    } else {
+                        pending.addFirst(name);
+                    }
+                }
+                backoffUntil = System.nanoTime() + backoff;
+                if (!pending.isEmpty()) {
+                    scheduleFlush(backoff);
+                }
+            }
+
+            if (!givenUpNames.isEmpty()) {
+                logger.warn("Giving up the lookup of {} names after {} rate limited retries", givenUpNames.size(), MAX_RATE_LIMITED_RETRIES);
+                completeBatch(givenUpNames, Map.of(), false);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            backoffNanos = 0;
+        }
+
+        if (response.statusCode() != 200) {
+            logger.warn("Requesting data from '{}' resulted in following status code: {}", bulkUri, response.statusCode());
+            completeBatch(batch, Map.of(), false);
+            return;
+        }
+
+        final Map<String, UUID> foundUuids = new HashMap<>();
+        try {
+            final JsonArray profiles = gson.fromJson(response.body(), JsonArray.class);
+            if (profiles != null) {
+                for (final JsonElement profile : profiles) {
+                    final JsonObject profileObject = profile.getAsJsonObject();
+                    if (profileObject.has("id") && profileObject.has("name")) {
+                        foundUuids.put(profileObject.get("name").getAsString().toLowerCase(Locale.ENGLISH), parseMojangUuid(profileObject.get("id").getAsString()));
+                    }
+                }
+            }
+        } catch (final JsonParseException | IllegalStateException | IllegalArgumentException e) {
+            logger.error("Could not parse the response from '{}'", bulkUri, e);
+            completeBatch(batch, Map.of(), false);
+            return;
+        }
+        completeBatch(batch, foundUuids, true);
+    }
+
+    /**
+     * Completes the futures of a batch and stores the results in the cache.
+     *
+     * @param batch The lower case names of the batch.
+     * @param foundUuids The found uuids by lower case names.
+     * @param cacheMissing Whether names without uuid should be cached as unknown.
+     */
+    private void completeBatch(final @NotNull List<String> batch, final @NotNull Map<String, UUID> foundUuids, final boolean cacheMissing) {
+        for (final String name : batch) {
+            final UUID uuid = foundUuids.get(name);
+            if (uuid != null) {
+                cache.putFound(name, uuid);
+            } else if (cacheMissing) {
+                cache.putNotFound(name);
+            }
+
+            final CompletableFuture<Optional<UUID>> future;
+            synchronized (this) {
+                future = inFlight.remove(name);
+                rateLimitedRetries.remove(name);
+            }
+
+            if (future != null) {
+                future.complete(Optional.ofNullable(uuid));
+            }
+        }
+    }
+
+    /**
+     * Calculates the next backoff after a rate limited response.
+     *
+     * @param retryAfter The value of the {@code Retry-After} header.
+     * @return Returns the backoff in nanoseconds.
+     */
+    private synchronized long nextBackoffNanos(final @Nullable String retryAfter) {
+        if (retryAfter != null) {
+            try {
+                backoffNanos = Math.min(TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim())), MAX_BACKOFF.toNanos());
+                return backoffNanos;
+            } catch (final NumberFormatException ignored) {
+                // falling back to an exponential backoff for http dates
+            }
+        }
+
+        backoffNanos = backoffNanos == 0 ? MIN_BACKOFF.toNanos() : Math.min(backoffNanos * 2, MAX_BACKOFF.toNanos());
+        return backoffNanos;
+    }
+
+    /**
+     * Parses an uuid in the format of the Mojang API, which has no dashes.
+     *
+     * @param mojangUuid The uuid in the format of the Mojang API.
+     * @return Returns the parsed uuid.
+     */
+    private static @NotNull UUID parseMojangUuid(final @NotNull String mojangUuid) {
+        return UUID.fromString(UUID_MOJANG_API_PATTERN.matcher(mojangUuid).replaceAll("$1-$2-$3-$4-$5"));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import io.github.communityradargg.fabric.CommunityRadarMod;
+import io.github.communityradargg.fabric.radarlistmanager.UuidHashMap;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+import java.util.UUID;
+
+/**
+ * A per-player memo for decorated name tags, which is only accessed from the render thread.
+ * <br><br>
+ * Every player keeps the sources of the last original name tag together with the decorated result and the list generation it was built for. As
+ * long as the lists and the sources do not change, decorating the name tag again only needs identity comparisons.
+ */
+public class NameTagDecorationCache {
+    private final UuidHashMap<DecorationMemo> memos;
+    private final int maxSize;
+
+    /**
+     * Constructs a {@link NameTagDecorationCache}.
+     *
+     * @param maxSize The maximum amount of players to memorize, the memo is cleared at once when it is exceeded.
+     */
+    public NameTagDecorationCache(final int maxSize) {
+        this.memos = new UuidHashMap<>(maxSize);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the name tag of a player decorated with the radar prefix, deriving it only if the memo is outdated.
+     *
+     * @param playerUuid The uuid of the player.
+     * @param source The sources the original name tag was built from.
+     * @param nameTag The original name tag.
+     * @return Returns the decorated name tag.
+     */
+    public @NotNull Component decorate(final @NotNull UUID playerUuid, final @NotNull NameTagSource source, final @NotNull Component nameTag) {
+        final long generation = CommunityRadarMod.getListManager().getGeneration();
+        final DecorationMemo memo = memos.get(playerUuid);
+        if (memo != null && memo.matches(source, generation)) {
+            return memo.decoratedComponent();
+        }
+
+        final Component decoratedNameTag = Utils.includePrefixComponent(playerUuid, nameTag);
+        if (memo == null && memos.size() >= maxSize) {
+            // players leaving the render distance are never removed explicitly
+            memos.clear();
+        }
+        memos.put(playerUuid, new DecorationMemo(source, generation, decoratedNameTag));
+        return decoratedNameTag;
+    }
+}
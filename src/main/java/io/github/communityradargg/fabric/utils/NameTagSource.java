@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.Avatar;
+import net.minecraft.world.scores.PlayerTeam;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The sources vanilla builds the name tag of a player from. The name tag component itself is built anew on every render state extraction, but its
+ * sources keep their identity until they are changed, so they can be compared by identity every frame.
+ *
+ * @param scoreboardName The scoreboard name of the player.
+ * @param team The team of the player.
+ * @param teamPrefix The player prefix of the team.
+ * @param teamSuffix The player suffix of the team.
+ * @param teamColor The color of the team.
+ * @param customName The custom name of the player.
+ */
+public record NameTagSource(@NotNull String scoreboardName, @Nullable PlayerTeam team, @Nullable Component teamPrefix, @Nullable Component teamSuffix,
+                            @Nullable ChatFormatting teamColor, @Nullable Component customName) {
+    /**
+     * Gets the current name tag sources of a player.
+     *
+     * @param avatar The player.
+     * @return Returns the name tag sources.
+     */
+    public static @NotNull NameTagSource of(final @NotNull Avatar avatar) {
+        final PlayerTeam team = avatar.getTeam();
+        return new NameTagSource(avatar.getScoreboardName(), team, team == null ? null : team.getPlayerPrefix(), team == null ? null : team.getPlayerSuffix(),
+                team == null ? null : team.getColor(), avatar.getCustomName());
+    }
+
+    /**
+     * Checks, whether the name tag built from other sources is the same. All sources except the scoreboard name are compared by identity, as they
+     * are replaced when changed.
+     *
+     * @param other The other name tag sources.
+     * @return Returns, whether both sources build the same name tag.
+     */
+    public boolean isSameAs(final @NotNull NameTagSource other) {
+        return team == other.team && teamPrefix == other.teamPrefix && teamSuffix == other.teamSuffix && teamColor == other.teamColor
+                && customName == other.customName && scoreboardName.equals(other.scoreboardName);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A small direct-mapped cache for components decorated with a list prefix.
+ * <br><br>
+ * The cache is keyed by the identity of the prefix component and the original component, so decorating an unchanged component again returns the
+ * previously built instance without any allocation. Concurrent access can only lead to cache misses, never to wrong results.
+ */
+public class PrefixComponentCache {
+    private final Slot[] slots;
+    private final int mask;
+
+    /**
+     * Constructs a {@link PrefixComponentCache}.
+     *
+     * @param size The amount of slots, which has to be a power of two.
+     * @throws IllegalArgumentException Thrown, when the size is not a positive power of two.
+     */
+    public PrefixComponentCache(final int size) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("The size has to be a positive power of two: " + size);
+        }
+
+        this.slots = new Slot[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the component with the prefix in front of the original component, building it only if it is not cached.
+     *
+     * @param prefixComponent The prebuilt prefix component.
+     * @param originalComponent The original component to decorate.
+     * @return Returns the decorated component.
+     */
+    public @NotNull Component decorate(final @NotNull Component prefixComponent, final @NotNull Component originalComponent) {
+        final int slotIndex = (System.identityHashCode(originalComponent) * 31 + System.identityHashCode(prefixComponent)) & mask;
+        final Slot slot = slots[slotIndex];
+        if (slot != null && slot.prefixComponent() == prefixComponent && slot.originalComponent() == originalComponent) {
+            return slot.decoratedComponent();
+        }
+
+        final Component decoratedComponent = Component.empty().append(prefixComponent).append(originalComponent);
+        slots[slotIndex] = new Slot(prefixComponent, originalComponent, decoratedComponent);
+        return decoratedComponent;
+    }
+
+    /**
+     * A cache slot holding a decorated component together with its inputs.
+     *
+     * @param prefixComponent The prefix component used for decoration.
+     * @param originalComponent The original component used for decoration.
+     * @param decoratedComponent The decorated component.
+     */
+    private record Slot(Component prefixComponent, Component originalComponent, Component decoratedComponent) {}
+}
@@ -15,23 +15,33 @@
  */
 package io.github.communityradargg.fabric.utils;
 
+import net.minecraft.network.chat.ClickEvent;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.HoverEvent;
+import net.minecraft.network.chat.MutableComponent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A class representing a message that can be shown to a player.
  */
 public class RadarMessage {
     private final String text;
+    private final String clickCommand;
+    private final String hoverText;
 
     /**
      * Constructs a {@link RadarMessage}.
      *
      * @param text The text for the message.
      * @param includePrefix Whether a prefix should be included in the message.
+     * @param clickCommand The command to run when the message is clicked or {@code null}.
+     * @param hoverText The text to show when hovering over the message or {@code null}.
      */
-    private RadarMessage(final @NotNull String text, final boolean includePrefix) {
+    private RadarMessage(final @NotNull String text, final boolean includePrefix, final @Nullable String clickCommand, final @Nullable String hoverText) {
         this.text = (includePrefix ? Messages.PREFIX : "") + text;
+        this.clickCommand = clickCommand;
+        this.hoverText = hoverText;
     }
 
     /**
@@ -40,7 +50,19 @@ public class RadarMessage {
      * @return Returns the text converted to a {@link Component}.
      */
     public @NotNull Component toComponent() {
-        return Component.nullToEmpty(text);
+        if (clickCommand == null && hoverText == null) {
+            return Component.nullToEmpty(text);
+        }
+
+        final MutableComponent component = Component.literal(text);
+        if (clickCommand != null) {
+            component.withStyle(style -> style.withClickEvent(new ClickEvent.RunCommand(clickCommand)));
+        }
+
+        if (hoverText != null) {
+            component.withStyle(style -> style.withHoverEvent(new HoverEvent.ShowText(Component.literal(hoverText))));
+        }
+        return component;
     }
 
     /**
@@ -49,6 +71,8 @@ public class RadarMessage {
     public static class RadarMessageBuilder {
         private String text;
         private boolean includePrefix;
+        private String clickCommand;
+        private String hoverText;
 
         /**
          * Constructs a {@link RadarMessageBuilder}.
@@ -94,13 +118,35 @@ public class RadarMessage {
             return this;
         }
 
+        /**
+         * Sets the command, which is run when the message is clicked.
+         *
+         * @param command The command including the leading slash.
+         * @return Returns the builder after setting the command.
+         */
+        public @NotNull RadarMessageBuilder runCommandOnClick(final @NotNull String command) {
+            clickCommand = command;
+            return this;
+        }
+
+        /**
+         * Sets the text, which is shown when hovering over the message.
+         *
+         * @param hoverText The text to show.
+         * @return Returns the builder after setting the text.
+         */
+        public @NotNull RadarMessageBuilder showTextOnHover(final @NotNull String hoverText) {
+            this.hoverText = hoverText;
+            return this;
+        }
+
         /**
          * Builds a {@link RadarMessage} out of the builder.
          *
          * @return Returns the build {@link RadarMessage}.
          */
         public @NotNull RadarMessage build() {
-            return new RadarMessage(text, includePrefix);
+            return new RadarMessage(text, includePrefix, clickCommand, hoverText);
         }
     }
 }
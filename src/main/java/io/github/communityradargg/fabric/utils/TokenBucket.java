@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+/**
+ * A simple thread-safe token bucket used to rate limit requests.
+ */
+public class TokenBucket {
+    private final int capacity;
+    private final long nanosPerToken;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Constructs a {@link TokenBucket}, which starts full.
+     *
+     * @param capacity The maximum amount of tokens.
+     * @param tokensPerSecond The amount of tokens refilled per second.
+     */
+    public TokenBucket(final int capacity, final double tokensPerSecond) {
+        this.capacity = capacity;
+        this.nanosPerToken = (long) (1_000_000_000L / tokensPerSecond);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Tries to take a token from the bucket.
+     *
+     * @return Returns {@code 0} if a token was taken, otherwise the nanoseconds to wait until the next token is available.
+     */
+    public synchronized long tryAcquire() {
+        final long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / nanosPerToken);
+        lastRefill = now;
+
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return (long) ((1 - tokens) * nanosPerToken);
+    }
+}
@@ -15,47 +15,44 @@
  */
 package io.github.communityradargg.fabric.utils;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import io.github.communityradargg.fabric.CommunityRadarMod;
+import io.github.communityradargg.fabric.accessors.PlayerInfoAccessor;
+import io.github.communityradargg.fabric.radarlistmanager.RadarListIndexEntry;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientPacketListener;
 import net.minecraft.client.multiplayer.PlayerInfo;
+import net.minecraft.client.multiplayer.ServerData;
+import net.minecraft.client.multiplayer.resolver.ServerAddress;
 import net.minecraft.network.Connection;
 import net.minecraft.network.chat.Component;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A class with some util methods.
  */
 public class Utils {
-    private static final Logger logger = LogManager.getLogger(Utils.class);
-    private static final String MOJANG_API_NAME_TO_UUID = "https://api.mojang.com/users/profiles/minecraft/";
-    private static final Pattern UUID_MOJANG_API_PATTERN = Pattern.compile("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})");
-    private static final Pattern CHAT_PLAYER_NAME = Pattern.compile("[A-Za-z\\-+]+\\s\\u2503\\s(~?!?\\w{1,16})");
     private static final DateTimeFormatter readableDateTimeFormatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss");
-    private static final Map<String, UUID> uuidNameCache = new HashMap<>();
+    private static final UuidNameCache uuidNameCache = new UuidNameCache(2048, Duration.ofHours(1), Duration.ofMinutes(10));
+    private static final PrefixComponentCache prefixComponentCache = new PrefixComponentCache(256);
+    private static final NameTagDecorationCache nameTagDecorationCache = new NameTagDecorationCache(1024);
     private static final HttpClient httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(3))
+            .executor(IoExecutor.getHttpClientExecutor())
             .build();
+    private static final MojangNameLookupService nameLookupService = new MojangNameLookupService(httpClient,
+            URI.create(MojangNameLookupService.MOJANG_API_BULK_NAME_TO_UUID), CommunityRadarMod.getModId() + "/" + CommunityRadarMod.getVersion(),
+            uuidNameCache, new TokenBucket(10, 1));
+    private static volatile boolean onGrieferGames;
 
     /**
      * Tries to get the uuid to the player name from the world.
@@ -70,17 +67,20 @@ public class Utils {
             return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        if (uuidNameCache.containsKey(playerName)) {
-            // if the uuid has been cached, returning from the map
-            return CompletableFuture.completedFuture(Optional.of(uuidNameCache.get(playerName)));
+        final UuidNameCache.Entry cacheEntry = uuidNameCache.get(playerName);
+        if (cacheEntry != null && !cacheEntry.isNegative()) {
+            // if the uuid has been cached, returning from the cache
+            return CompletableFuture.completedFuture(Optional.of(cacheEntry.uuid()));
         }
 
-        // checking if there is a player with same name in the loaded world. If so, returning the uuid from the profile
-        for (final PlayerInfo playerInfo : clientPacketListener.getOnlinePlayers()) {
-            if (playerInfo.getProfile().name().equalsIgnoreCase(playerName)) {
-                uuidNameCache.put(playerName, playerInfo.getProfile().id());
-                return CompletableFuture.completedFuture(Optional.of(playerInfo.getProfile().id()));
-            }
+        final Optional<UUID> onlineUuid = getOnlineUUID(clientPacketListener, playerName);
+        if (onlineUuid.isPresent()) {
+            return CompletableFuture.completedFuture(onlineUuid);
+        }
+
+        if (cacheEntry != null) {
+            // the lookup failed recently, not asking the Mojang-API again
+            return CompletableFuture.completedFuture(Optional.empty());
         }
 
         if (playerName.startsWith("!") || playerName.startsWith("~")) {
@@ -88,45 +88,55 @@ public class Utils {
         }
 
         // if no player with same name is in the world, try fetching the uuid from the Mojang-API.
-        return requestUuidForName(playerName);
+        return nameLookupService.lookup(playerName);
     }
 
     /**
-     * Requests an uuid to a player name, from the Mojang API.
+     * Tries to get the uuid to the player name only from local sources, which are the cache and the players in the world.
      *
-     * @param playerName The player name to get the uuid for.
-     * @return Returns a CompletableFuture with an optional with the requested uuid, it will be empty if an error occurred on requesting.
+     * @param playerName The player name to get the corresponding uuid.
+     * @return Returns an optional with the player uuid.
      */
-    private static @NotNull CompletableFuture<Optional<UUID>> requestUuidForName(final @NotNull String playerName) {
-        final String uriText = MOJANG_API_NAME_TO_UUID + playerName;
-        final URI uri = URI.create(uriText);
-        final HttpRequest httpRequest = HttpRequest.newBuilder()
-                .uri(uri)
-                .timeout(Duration.ofSeconds(3))
-                .header("User-Agent", CommunityRadarMod.getModId() + "/" + CommunityRadarMod.getVersion())
-                .GET()
-                .build();
-
-        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
-                .thenApply(response -> {
-                    if (response.statusCode() != 200) {
-                        logger.warn("Requesting data from '{}' resulted in following status code: {}", uriText, response.statusCode());
-                        return Optional.<UUID>empty();
-                    }
-
-                    final JsonObject json = new Gson().fromJson(response.body(), JsonObject.class);
-                    if (json == null || !json.has("id") || !json.has("name")) {
-                        return Optional.<UUID>empty();
-                    }
-
-                    final UUID uuid = UUID.fromString(UUID_MOJANG_API_PATTERN.matcher(json.get("id").getAsString()).replaceAll("$1-$2-$3-$4-$5"));
-                    uuidNameCache.put(playerName, uuid);
-                    return Optional.of(uuid);
-                })
-                .exceptionally(e -> {
-                    logger.error("Trying to request data from '{}' resulted in an exception", uriText, e);
-                    return Optional.empty();
-                });
+    public static @NotNull Optional<UUID> getLocalUUID(final @NotNull String playerName) {
+        final ClientPacketListener clientPacketListener = Minecraft.getInstance().getConnection();
+        if (clientPacketListener == null) {
+            // user has to be in a world
+            return Optional.empty();
+        }
+
+        final UuidNameCache.Entry cacheEntry = uuidNameCache.get(playerName);
+        if (cacheEntry != null && !cacheEntry.isNegative()) {
+            // if the uuid has been cached, returning from the cache
+            return Optional.of(cacheEntry.uuid());
+        }
+        return getOnlineUUID(clientPacketListener, playerName);
+    }
+
+    /**
+     * Tries to get the uuid to the player name from the players in the world and caches it if found.
+     *
+     * @param clientPacketListener The client packet listener of the world.
+     * @param playerName The player name to get the corresponding uuid.
+     * @return Returns an optional with the player uuid.
+     */
+    private static @NotNull Optional<UUID> getOnlineUUID(final @NotNull ClientPacketListener clientPacketListener, final @NotNull String playerName) {
+        // checking if there is a player with same name in the loaded world. If so, returning the uuid from the profile
+        for (final PlayerInfo playerInfo : clientPacketListener.getOnlinePlayers()) {
+            if (playerInfo.getProfile().name().equalsIgnoreCase(playerName)) {
+                uuidNameCache.putFound(playerName, playerInfo.getProfile().id());
+                return Optional.of(playerInfo.getProfile().id());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the cache mapping player names to uuids.
+     *
+     * @return Returns the name to uuid cache.
+     */
+    public static @NotNull UuidNameCache getUuidNameCache() {
+        return uuidNameCache;
     }
 
     /**
@@ -162,22 +172,56 @@ public class Utils {
     }
 
     /**
-     * Check if the player is connected to GrieferGames.
+     * Check if the player is connected to GrieferGames. The state is only computed on joining a server, so this is a plain field read.
      *
      * @return Returns, whether the player is connected to GrieferGames.
      */
     @SuppressWarnings("BooleanMethodIsAlwaysInverted") // better readable this way
     public static boolean isOnGrieferGames() {
-        final ClientPacketListener clientPacketListener = Minecraft.getInstance().getConnection();
-        if (clientPacketListener == null) {
+        return onGrieferGames;
+    }
+
+    /**
+     * Updates the cached GrieferGames state for a newly joined connection.
+     *
+     * @param minecraft The Minecraft client instance.
+     * @param clientPacketListener The client packet listener of the joined connection.
+     */
+    public static void updateGrieferGamesState(final @NotNull Minecraft minecraft, final @NotNull ClientPacketListener clientPacketListener) {
+        onGrieferGames = detectGrieferGames(minecraft, clientPacketListener);
+    }
+
+    /**
+     * Resets the cached GrieferGames state after a disconnect.
+     */
+    public static void resetGrieferGamesState() {
+        onGrieferGames = false;
+    }
+
+    /**
+     * Detects if a connection is connected to GrieferGames.
+     * <br><br>
+     * Only the address entered by the player and the unresolved host string are used, so no reverse DNS lookup can be triggered.
+     *
+     * @param minecraft The Minecraft client instance.
+     * @param clientPacketListener The client packet listener of the connection.
+     * @return Returns, whether the connection is connected to GrieferGames.
+     */
+    private static boolean detectGrieferGames(final @NotNull Minecraft minecraft, final @NotNull ClientPacketListener clientPacketListener) {
+        final Connection connection = clientPacketListener.getConnection();
+        if (connection.isMemoryConnection()) {
             return false;
         }
 
-        final Connection connection = clientPacketListener.getConnection();
-        if (connection.isMemoryConnection() || !(connection.getRemoteAddress() instanceof InetSocketAddress inetSocketAddress)) {
+        final ServerData serverData = minecraft.getCurrentServer();
+        if (serverData != null && isGrieferGamesHostName(ServerAddress.parseString(serverData.ip).getHost())) {
+            return true;
+        }
+
+        if (!(connection.getRemoteAddress() instanceof InetSocketAddress inetSocketAddress)) {
             return false;
         }
-        return isGrieferGamesHostName(inetSocketAddress.getHostName());
+        return isGrieferGamesHostName(inetSocketAddress.getHostString());
     }
 
     /**
@@ -188,33 +232,54 @@ public class Utils {
      * @return The new component including the radar prefix.
      */
     public static Component includePrefixComponent(final @NotNull UUID playerUuid, final @NotNull Component oldNameTagComponent) {
-        final String addonPrefix = CommunityRadarMod.getListManager()
-                .getPrefix(playerUuid)
-                .replace("&", "§");
-
-        if (!addonPrefix.isEmpty()) {
-            return Component.empty().append(addonPrefix + " ").append(oldNameTagComponent);
+        final RadarListIndexEntry indexEntry = CommunityRadarMod.getListManager().getIndexEntry(playerUuid);
+        if (indexEntry == null || indexEntry.prefix().isEmpty()) {
+            return oldNameTagComponent;
         }
-        return oldNameTagComponent;
+        return prefixComponentCache.decorate(indexEntry.list().getPrefixComponent(), oldNameTagComponent);
     }
 
     /**
-     * Searches the uuid of a player sending a message in the chat.
+     * Gets the name tag of a rendered player including the radar prefix. The result is memorized per player until the sources of the name tag or
+     * the lists change, so this must only be called from the render thread.
      *
-     * @param chatMessage The chat message to search for the player.
-     * @return Returns a CompletableFuture with an optional of type uuid.
+     * @param playerUuid The uuid of the player.
+     * @param source The sources the original name tag was built from.
+     * @param nameTag The original name tag.
+     * @return Returns the name tag including the radar prefix, if needed.
      */
-    public static @NotNull CompletableFuture<Optional<UUID>> getChatMessagePlayer(final @NotNull String chatMessage) {
-        final Matcher playerNameMatcher = CHAT_PLAYER_NAME.matcher(chatMessage);
-        if (!playerNameMatcher.find()) {
-            return CompletableFuture.completedFuture(Optional.empty());
-        }
+    public static @NotNull Component decorateNameTag(final @NotNull UUID playerUuid, final @NotNull NameTagSource source, final @NotNull Component nameTag) {
+        return nameTagDecorationCache.decorate(playerUuid, source, nameTag);
+    }
 
-        final String playerName = playerNameMatcher.group(1);
-        if (playerName.startsWith("~")) {
-            // nicked player
-            return CompletableFuture.completedFuture(Optional.empty());
+    /**
+     * Gets the tab list name of a player including the radar prefix. The result is cached in the player info until the name or the lists change,
+     * so this must only be called from the render thread.
+     *
+     * @param playerInfo The player info of the player.
+     * @param tabListName The original tab list name.
+     * @return Returns the tab list name including the radar prefix, if needed.
+     */
+    public static @NotNull Component decorateTabListName(final @NotNull PlayerInfo playerInfo, final @NotNull Component tabListName) {
+        final PlayerInfoAccessor accessor = (PlayerInfoAccessor) playerInfo;
+        final long generation = CommunityRadarMod.getListManager().getGeneration();
+        final DecorationMemo memo = accessor.communityradar_fabric$getTabListNameDecoration();
+        if (memo != null && memo.matches(tabListName, generation)) {
+            return memo.decoratedComponent();
         }
-        return Utils.getUUID(playerName);
+
+        final Component decoratedTabListName = includePrefixComponent(playerInfo.getProfile().id(), tabListName);
+        accessor.communityradar_fabric$setTabListNameDecoration(new DecorationMemo(tabListName, generation, decoratedTabListName));
+        return decoratedTabListName;
+    }
+
+    /**
+     * Searches the name of a player sending a message in the chat.
+     *
+     * @param chatMessage The chat message component to search for the player.
+     * @return Returns an optional with the player name, it will be empty for nicked players.
+     */
+    public static @NotNull Optional<String> getChatMessagePlayerName(final @NotNull Component chatMessage) {
+        return ChatSenderExtractor.extract(chatMessage);
     }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, size-bounded cache mapping player names to uuids with least-recently-used eviction.
+ * <br><br>
+ * Names are case-insensitive. Besides found uuids, failed lookups are remembered as negative entries, both with their own time to live.
+ */
+public class UuidNameCache {
+    private final int maxSize;
+    private final long positiveTtlNanos;
+    private final long negativeTtlNanos;
+    private final LinkedHashMap<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a {@link UuidNameCache}.
+     *
+     * @param maxSize The maximum amount of cached names.
+     * @param positiveTtl The time to live of found uuids.
+     * @param negativeTtl The time to live of failed lookups.
+     */
+    public UuidNameCache(final int maxSize, final @NotNull Duration positiveTtl, final @NotNull Duration negativeTtl) {
+        this.maxSize = maxSize;
+        this.positiveTtlNanos = positiveTtl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                if (size() > UuidNameCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the cache entry for a player name.
+     *
+     * @param playerName The player name.
+     * @return Returns the entry or {@code null} if there is no entry or it has expired.
+     */
+    public synchronized @Nullable Entry get(final @NotNull String playerName) {
+        final String key = normalize(playerName);
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (entry.expiresAt() - System.nanoTime() < 0) {
+            entries.remove(key);
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry;
+    }
+
+    /**
+     * Caches a found uuid for a player name.
+     *
+     * @param playerName The player name.
+     * @param uuid The found uuid.
+     */
+    public synchronized void putFound(final @NotNull String playerName, final @NotNull UUID uuid) {
+        entries.put(normalize(playerName), new Entry(uuid, System.nanoTime() + positiveTtlNanos));
+    }
+
+    /**
+     * Caches a failed lookup for a player name.
+     *
+     * @param playerName The player name.
+     */
+    public synchronized void putNotFound(final @NotNull String playerName) {
+        entries.put(normalize(playerName), new Entry(null, System.nanoTime() + negativeTtlNanos));
+    }
+
+    /**
+     * Gets the amount of cached names.
+     *
+     * @return Returns the amount of cached names.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the maximum amount of cached names.
+     *
+     * @return Returns the maximum amount of cached names.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the amount of cache hits.
+     *
+     * @return Returns the amount of cache hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of cache misses.
+     *
+     * @return Returns the amount of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the amount of evicted names.
+     *
+     * @return Returns the amount of evicted names.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Normalizes a player name to a cache key.
+     *
+     * @param playerName The player name.
+     * @return Returns the cache key.
+     */
+    private static @NotNull String normalize(final @NotNull String playerName) {
+        return playerName.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * A cache entry.
+     *
+     * @param uuid The cached uuid, {@code null} for a failed lookup.
+     * @param expiresAt The {@link System#nanoTime()} value at which the entry expires.
+     */
+    public record Entry(@Nullable UUID uuid, long expiresAt) {
+        /**
+         * Checks, whether the entry remembers a failed lookup.
+         *
+         * @return Returns, whether the entry is negative.
+         */
+        public boolean isNegative() {
+            return uuid == null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests replaying the journal of a private list after a crash during an append.
+ */
+class RadarListJournalTest {
+    private static final UUID FIRST_UUID = new UUID(1, 1);
+    private static final UUID SECOND_UUID = new UUID(1, 2);
+    @TempDir
+    private Path directory;
+
+    @Test
+    void changesAppendedAfterTornTailAreReplayed() throws Exception {
+        final Path snapshotPath = directory.resolve("torn.json");
+        final Path journalPath = RadarListJournal.getJournalPath(snapshotPath);
+        RadarListJournal.append(journalPath, List.of(RadarListChange.add(createEntry(FIRST_UUID, "First"))));
+        // an append interrupted by a crash
+        Files.writeString(journalPath, "{\"op\":\"add\",\"entry\":{\"uu", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        final RadarList loadedAfterCrash = createList(snapshotPath);
+        assertEquals(1, RadarListJournal.replay(journalPath, loadedAfterCrash));
+        assertTrue(loadedAfterCrash.isInList(FIRST_UUID));
+
+        RadarListJournal.append(journalPath, List.of(RadarListChange.add(createEntry(SECOND_UUID, "Second"))));
+        final RadarList reloaded = createList(snapshotPath);
+        assertEquals(2, RadarListJournal.replay(journalPath, reloaded));
+        assertTrue(reloaded.isInList(FIRST_UUID));
+        assertTrue(reloaded.isInList(SECOND_UUID));
+    }
+
+    @Test
+    void unterminatedTailIsCutOff() throws Exception {
+        final Path snapshotPath = directory.resolve("unterminated.json");
+        final Path journalPath = RadarListJournal.getJournalPath(snapshotPath);
+        RadarListJournal.append(journalPath, List.of(RadarListChange.add(createEntry(FIRST_UUID, "First"))));
+        final long validLength = Files.size(journalPath);
+        // a complete line, whose line break was not written anymore
+        Files.writeString(journalPath, "{\"op\":\"remove\",\"uuid\":\"" + FIRST_UUID + "\"}", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        final RadarList loadedAfterCrash = createList(snapshotPath);
+        assertEquals(1, RadarListJournal.replay(journalPath, loadedAfterCrash));
+        assertTrue(loadedAfterCrash.isInList(FIRST_UUID));
+        assertEquals(validLength, Files.size(journalPath));
+    }
+
+    /**
+     * Creates an empty private list like one loaded from its snapshot.
+     *
+     * @param snapshotPath The path of the snapshot.
+     * @return Returns the list.
+     */
+    private static RadarList createList(final Path snapshotPath) {
+        return new RadarList("torn", "&7[&cTorn&7]", snapshotPath.toString(), RadarListVisibility.PRIVATE);
+    }
+
+    /**
+     * Creates an entry.
+     *
+     * @param uuid The uuid of the player.
+     * @param name The name of the player.
+     * @return Returns the entry.
+     */
+    private static RadarListEntry createEntry(final UUID uuid, final String name) {
+        return new RadarListEntry(uuid, name, "Journal test", LocalDateTime.now().withNano(0));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.radarlistmanager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress tests for the single mutation path of the {@link RadarListManager} against lock-free readers.
+ */
+class RadarListManagerConcurrencyTest {
+    private static final String NAMESPACE = "stress";
+    private static final String PREFIX = "&7[&cStress&7]";
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int ENTRIES_PER_WRITER = 2_000;
+    @TempDir
+    private Path directory;
+    private RadarListManager listManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final Path listDirectory = Files.createDirectory(directory.resolve("lists"));
+        final Path cacheDirectory = Files.createDirectory(directory.resolve("cache"));
+        listManager = new RadarListManager(listDirectory + "/", cacheDirectory + "/");
+        assertTrue(listManager.registerPrivateList(NAMESPACE, PREFIX));
+    }
+
+    @AfterEach
+    void tearDown() {
+        listManager.shutdown();
+    }
+
+    @Test
+    @Timeout(120)
+    void concurrentChangesAreNotLostAndReadersNeverFail() throws Exception {
+        final List<List<UUID>> writerUuids = new ArrayList<>();
+        for (int writer = 0; writer < WRITER_COUNT; writer++) {
+            final List<UUID> uuids = new ArrayList<>();
+            for (int i = 0; i < ENTRIES_PER_WRITER; i++) {
+                uuids.add(new UUID(writer + 1, i));
+            }
+            writerUuids.add(uuids);
+        }
+
+        final ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final AtomicLong reads = new AtomicLong();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> writers = new ArrayList<>();
+        for (final List<UUID> uuids : writerUuids) {
+            writers.add(Thread.ofPlatform().start(() -> runWriter(uuids, start, failures)));
+        }
+
+        final List<Thread> readers = new ArrayList<>();
+        for (int reader = 0; reader < READER_COUNT; reader++) {
+            readers.add(Thread.ofPlatform().start(() -> runReader(writerUuids, start, writing, reads, failures)));
+        }
+
+        start.countDown();
+        for (final Thread writer : writers) {
+            writer.join();
+        }
+        writing.set(false);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+
+        assertTrue(failures.isEmpty(), () -> "Concurrent access failed: " + failures);
+        assertTrue(reads.get() > 0, "The readers did not run");
+
+        // every writer removes the entries with an odd index again, so only the even ones must remain
+        final Set<UUID> expectedUuids = new HashSet<>();
+        writerUuids.forEach(uuids -> {
+            for (int i = 0; i < uuids.size(); i += 2) {
+                expectedUuids.add(uuids.get(i));
+            }
+        });
+
+        final Optional<RadarList> listOptional = listManager.getRadarList(NAMESPACE);
+        assertTrue(listOptional.isPresent());
+        assertEquals(expectedUuids, new HashSet<>(listOptional.get().getPlayerMap().keySet()));
+        for (final List<UUID> uuids : writerUuids) {
+            for (int i = 0; i < uuids.size(); i++) {
+                final UUID uuid = uuids.get(i);
+                final boolean expected = i % 2 == 0;
+                assertEquals(expected, listManager.isInList(uuid), () -> "Wrong index state of " + uuid);
+                assertEquals(expected ? PREFIX : "", listManager.getPrefix(uuid));
+            }
+        }
+    }
+
+    /**
+     * Adds all uuids and removes every second one afterward, checking the result of every change.
+     *
+     * @param uuids The uuids owned by the writer.
+     * @param start The latch to start at.
+     * @param failures The collected failures.
+     */
+    private void runWriter(final List<UUID> uuids, final CountDownLatch start, final ConcurrentLinkedQueue<Throwable> failures) {
+        try {
+            start.await();
+            for (final UUID uuid : uuids) {
+                if (!listManager.addRadarListEntry(NAMESPACE, uuid, "Player" + uuid.getLeastSignificantBits(), "Stress test")) {
+                    throw new AssertionError("Could not add " + uuid);
+                }
+            }
+
+            for (int i = 1; i < uuids.size(); i += 2) {
+                if (!listManager.removeRadarListEntry(NAMESPACE, uuids.get(i))) {
+                    throw new AssertionError("Could not remove " + uuids.get(i));
+                }
+            }
+        } catch (final Throwable throwable) {
+            failures.add(throwable);
+        }
+    }
+
+    /**
+     * Reads like the renderers do until the writers are done.
+     *
+     * @param writerUuids The uuids of all writers.
+     * @param start The latch to start at.
+     * @param writing Whether the writers are still running.
+     * @param reads The counter of completed read rounds.
+     * @param failures The collected failures.
+     */
+    private void runReader(final List<List<UUID>> writerUuids, final CountDownLatch start, final AtomicBoolean writing, final AtomicLong reads,
+                           final ConcurrentLinkedQueue<Throwable> failures) {
+        try {
+            start.await();
+            final RadarList list = listManager.getRadarList(NAMESPACE).orElseThrow();
+            int round = 0;
+            do {
+                for (final List<UUID> uuids : writerUuids) {
+                    final UUID uuid = uuids.get(round % uuids.size());
+                    final boolean inList = listManager.isInList(uuid);
+                    final String prefix = listManager.getPrefix(uuid);
+                    if (!prefix.isEmpty() && !PREFIX.equals(prefix)) {
+                        throw new AssertionError("Unexpected prefix " + prefix + " (in list: " + inList + ")");
+                    }
+                }
+
+                // a snapshot never changes, so iterating it must visit exactly its size
+                final Map<UUID, RadarListEntry> playerMap = list.getPlayerMap();
+                final int[] visitedEntries = {0};
+                playerMap.forEach((uuid, entry) -> {
+                    if (!uuid.equals(entry.uuid())) {
+                        throw new AssertionError("Entry " + entry.uuid() + " is stored for " + uuid);
+                    }
+                    visitedEntries[0]++;
+                });
+                if (visitedEntries[0] != playerMap.size()) {
+                    throw new AssertionError("Visited " + visitedEntries[0] + " of " + playerMap.size() + " entries");
+                }
+
+                round++;
+                reads.incrementAndGet();
+            } while (writing.get());
+        } catch (final Throwable throwable) {
+            failures.add(throwable);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2024 - present CommunityRadarGG <https://community-radar.de/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.communityradargg.fabric.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@link MojangNameLookupService} against a local stub of the bulk profile endpoint.
+ */
+class MojangNameLookupServiceTest {
+    private static final String BULK_PATH = "/profile/lookup/bulk/byname";
+    private static final Gson gson = new Gson();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private volatile Function<Integer, StubResponse> responder;
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HttpClient httpClient;
+    private MojangNameLookupService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext(BULK_PATH, this::handle);
+        server.start();
+
+        httpClient = HttpClient.newHttpClient();
+        final URI bulkUri = URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + BULK_PATH);
+        service = new MojangNameLookupService(httpClient, bulkUri, "communityradar/test", new UuidNameCache(128, Duration.ofHours(1), Duration.ofMinutes(1)),
+                new TokenBucket(100, 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        httpClient.close();
+    }
+
+    @Test
+    void concurrentLookupsOfTheSameNameAreMerged() throws Exception {
+        final UUID uuid = UUID.randomUUID();
+        final CountDownLatch lookupsStarted = new CountDownLatch(1);
+        responder = _ -> {
+            awaitQuietly(lookupsStarted);
+            return StubResponse.ok(profiles(List.of("Steve"), List.of(uuid)));
+        };
+
+        final int lookupCount = 16;
+        final List<CompletableFuture<Optional<UUID>>> futures = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < lookupCount; i++) {
+            final String name = i % 2 == 0 ? "Steve" : "steve";
+            threads.add(Thread.ofPlatform().start(() -> futures.add(service.lookup(name))));
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        lookupsStarted.countDown();
+
+        for (final CompletableFuture<Optional<UUID>> future : futures) {
+            assertSame(futures.getFirst(), future);
+            assertEquals(Optional.of(uuid), future.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, requests.size());
+        assertEquals(List.of("steve"), requests.getFirst().names());
+    }
+
+    @Test
+    void batchesHoldAtMostTenNames() throws Exception {
+        responder = _ -> StubResponse.ok("[]");
+
+        final Set<String> names = new HashSet<>();
+        final List<CompletableFuture<Optional<UUID>>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            final String name = "Player" + i;
+            names.add(name.toLowerCase(Locale.ENGLISH));
+            futures.add(service.lookup(name));
+        }
+
+        for (final CompletableFuture<Optional<UUID>> future : futures) {
+            assertEquals(Optional.empty(), future.get(10, TimeUnit.SECONDS));
+        }
+
+        final Set<String> requestedNames = new HashSet<>();
+        for (final RecordedRequest request : requests) {
+            assertTrue(request.names().size() <= 10, () -> "Batch with " + request.names().size() + " names");
+            requestedNames.addAll(request.names());
+        }
+        assertEquals(names, requestedNames);
+        assertTrue(requests.size() >= 3);
+    }
+
+    @Test
+    void backsOffAfterRateLimitedResponse() throws Exception {
+        final UUID uuid = UUID.randomUUID();
+        responder = requestIndex -> requestIndex == 0
+                ? StubResponse.rateLimited("1")
+                : StubResponse.ok(profiles(List.of("Alex"), List.of(uuid)));
+
+        assertEquals(Optional.of(uuid), service.lookup("Alex").get(10, TimeUnit.SECONDS));
+        assertEquals(2, requests.size());
+        final long pauseMillis = TimeUnit.NANOSECONDS.toMillis(requests.get(1).receivedAt() - requests.get(0).receivedAt());
+        assertTrue(pauseMillis >= 900, () -> "Retried after " + pauseMillis + " ms");
+    }
+
+    @Test
+    void givesUpAfterRepeatedRateLimitedResponses() throws Exception {
+        responder = _ -> StubResponse.rateLimited("0");
+
+        assertEquals(Optional.empty(), service.lookup("Herobrine").get(10, TimeUnit.SECONDS));
+        // the first request and the retries
+        assertEquals(6, requests.size());
+    }
+
+    /**
+     * Handles a request to the stub endpoint by recording it and sending the response of the current responder.
+     *
+     * @param exchange The exchange of the request.
+     * @throws IOException Thrown, when reading the request or writing the response failed.
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        final long receivedAt = System.nanoTime();
+        final List<String> names = new ArrayList<>();
+        try (final InputStreamReader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            for (final JsonElement name : gson.fromJson(reader, JsonArray.class)) {
+                names.add(name.getAsString());
+            }
+        }
+
+        final int requestIndex;
+        synchronized (requests) {
+            requestIndex = requests.size();
+            requests.add(new RecordedRequest(names, receivedAt));
+        }
+
+        final StubResponse response = responder.apply(requestIndex);
+        if (response.retryAfter() != null) {
+            exchange.getResponseHeaders().add("Retry-After", response.retryAfter());
+        }
+
+        final byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        // a length of -1 announces an empty body, 0 would mean chunked encoding
+        exchange.sendResponseHeaders(response.statusCode(), body.length == 0 ? -1 : body.length);
+        try (final OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    /**
+     * Builds a response body of the bulk profile endpoint.
+     *
+     * @param names The names of the profiles.
+     * @param uuids The uuids of the profiles.
+     * @return Returns the response body.
+     */
+    private static String profiles(final List<String> names, final List<UUID> uuids) {
+        final StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":\"").append(uuids.get(i).toString().replace("-", "")).append("\",\"name\":\"").append(names.get(i)).append("\"}");
+        }
+        return body.append(']').toString();
+    }
+
+    /**
+     * Waits for a latch without propagating interrupts.
+     *
+     * @param latch The latch to wait for.
+     */
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A request received by the stub endpoint.
+     *
+     * @param names The requested names.
+     * @param receivedAt The time the request was received at in nanoseconds.
+     */
+    private record RecordedRequest(List<String> names, long receivedAt) {}
+
+    /**
+     * A response of the stub endpoint.
+     *
+     * @param statusCode The status code.
+     * @param body The body.
+     * @param retryAfter The value of the {@code Retry-After} header or {@code null}.
+     */
+    private record StubResponse(int statusCode, String body, String retryAfter) {
+        static StubResponse ok(final String body) {
+            return new StubResponse(200, body, null);
+        }
+
+        static StubResponse rateLimited(final String retryAfter) {
+            return new StubResponse(429, "", retryAfter);
+        }
+    }
+}